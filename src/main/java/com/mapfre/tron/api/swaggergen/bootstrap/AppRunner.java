@@ -1,22 +1,47 @@
 package com.mapfre.tron.api.swaggergen.bootstrap;
 
-import com.mapfre.tron.api.swaggergen.components.FileUtils;
-import com.mapfre.tron.api.swaggergen.components.ObjectAnalyzer;
+import com.mapfre.tron.api.swaggergen.components.JarClassScanner;
+import com.mapfre.tron.api.swaggergen.components.JavaSourceScanner;
+import com.mapfre.tron.api.swaggergen.components.JavaSourceScanner.ScanResult;
+import com.mapfre.tron.api.swaggergen.components.JavaSourceScanner.SourceFile;
+import com.mapfre.tron.api.swaggergen.components.ModelAnalysisEngine;
+import com.mapfre.tron.api.swaggergen.components.ModelFilter;
+import com.mapfre.tron.api.swaggergen.components.ModelManifest;
+import com.mapfre.tron.api.swaggergen.components.SourceWatcher;
 import com.mapfre.tron.api.swaggergen.components.SwaggerGenerator;
+import com.mapfre.tron.api.swaggergen.metrics.GenerationMetrics;
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import com.mapfre.tron.api.swaggergen.repository.DescriptionCache;
+import com.mapfre.tron.api.swaggergen.server.SpecServer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
-import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Created by jt, Spring Framework Guru.
  *
  * @author architecture - rperezv
- * @version 23/10/2024 - 14:49
+ * @version 16/10/2026 - 22:47
  * @since jdk 1.17
  */
 @Component
@@ -26,46 +51,423 @@ public class AppRunner implements CommandLineRunner {
 
     private final SwaggerGenerator  swaggerGenerator;
 
+    private final ModelAnalysisEngine modelAnalysisEngine;
+
+    private final DescriptionCache descriptionCache;
+
+    private final GenerationMetrics generationMetrics;
+
+    // Created only when the document is served
+    private final ObjectProvider<SpecServer> specServer;
+
+    private final ModelFilter modelFilter;
+
+    private final WatchDaemon watchDaemon;
+
+    /**
+     * Generated document; the other formats and the shard directory are written next to it.
+     */
+    @Value("${app.output.path:swagger.yaml}")
+    private String outputPath;
+
+    /**
+     * Directory of the model sources, scanned when no source archive is configured.
+     */
+    @Value("${app.sources.dir:src/main/java/com/mapfre/nwt}")
+    private String sourceDir;
+
+    /**
+     * JAR archives holding the model classes, scanned instead of the source directory.
+     */
+    @Value("${app.sources.jars:}")
+    private List<String> sourceJars;
+
+    /**
+     * Packages of the models in the source archives, empty to take every class.
+     */
+    @Value("${app.sources.packages:}")
+    private List<String> sourcePackages;
+
+    /**
+     * When enabled, the generated document is served over HTTP from memory after each generation.
+     */
+    @Value("${app.serve.enabled:false}")
+    private boolean serve;
+
+    /**
+     * Machine-readable summary of the run metrics, written at the end of each run (empty to disable).
+     */
+    @Value("${app.metrics.summary-path:}")
+    private String summaryPath;
+
+    /**
+     * When enabled, only the classes whose source changed since the previous run are analyzed.
+     */
+    @Value("${app.incremental.enabled:false}")
+    private boolean incremental;
+
+    /**
+     * Manifest with the source fingerprints and definitions of the previous run.
+     */
+    @Value("${app.incremental.manifest:swaggergen.manifest}")
+    private String manifestPath;
+
+    /**
+     * Run mode: {@code batch} generates the document once, {@code watch} keeps regenerating it on changes.
+     */
+    @Value("${app.mode:batch}")
+    private String mode;
+
+    /**
+     * Quiet period that ends a burst of file changes in watch mode.
+     */
+    @Value("${app.watch.debounce:200ms}")
+    private Duration debounce;
+
+    /**
+     * Analysis mode: watch mode needs {@code bytecode}, whose class output directories are watched as well.
+     */
+    @Value("${app.analysis.mode:reflection}")
+    private String analysisMode;
+
+    /**
+     * Class output directories, watched in {@code bytecode} mode.
+     */
+    @Value("${app.analysis.classes-dirs:target/classes}")
+    private List<String> classesDirs;
+
     @Override
     public void run(String... args) throws Exception {
         log.info("SwaggerApp running...");
 
-        long startTime = System.currentTimeMillis();
+        // Loaded classes are never reloaded, so reflection would regenerate the first document forever
+        boolean watch = "watch".equalsIgnoreCase(mode);
+        if (watch && !"bytecode".equalsIgnoreCase(analysisMode)) {
+            throw new IllegalStateException("Watch mode needs app.analysis.mode=bytecode, "
+                    + "reflection analysis does not pick up the recompiled classes");
+        }
 
-        // Define the source directory where the Java files are located
-        File sourceDir = new File("src/main/java/com/mapfre/nwt");
+        long startTime = System.currentTimeMillis();
 
-        // Map to hold class names and their corresponding packages
-        Map<String, String> classPackageMap = FileUtils.findJavaFilesWithPackages(sourceDir);
+        // Scan the source files, or the central directories of the source archives, mapping class names to their packages
+        ScanResult scanResult;
+        try (GenerationMetrics.Phase phase = generationMetrics.phase("scan")) {
+            scanResult = sourceJars.isEmpty()
+                    ? JavaSourceScanner.scan(Paths.get(sourceDir), modelFilter)
+                    : JarClassScanner.scan(sourceJars.stream().map(Paths::get).toList(), sourcePackages, modelFilter);
+            phase.items(scanResult.classes().size() + scanResult.duplicates().size());
+        }
+        Map<String, String> classPackageMap = scanResult.classPackageMap();
+        generationMetrics.count(GenerationMetrics.FILES_SCANNED, scanResult.classes().size() + scanResult.duplicates().size());
+        generationMetrics.count(GenerationMetrics.FILES_DUPLICATED, scanResult.duplicates().size());
 
         log.debug("classPackageMap = {}", classPackageMap);
 
-        // Map to store the Swagger models (class names and their property definitions)
-        Map<String, Map<String, String>> swaggerModels = new HashMap<>();
+        // Load and analyze the classes in parallel, collecting the Swagger models (class names and their property definitions)
+        Map<String, Map<String, Schema>> swaggerModels;
+        try (GenerationMetrics.Phase phase = generationMetrics.phase("analyze")) {
+            swaggerModels = incremental
+                    ? this.analyzeIncrementally(scanResult)
+                    : modelAnalysisEngine.analyze(classPackageMap);
+            phase.items(swaggerModels.size());
+        }
 
-        // Iterate over the class-package entries found in the source directory
-        classPackageMap.forEach((className, packageName) -> {
-            try {
-                // Construct the full class name (including package if present)
-                String fullClassName = packageName.isEmpty() ? className : packageName + "." + className;
+        // Generate the Swagger YAML file with the collected models
+        Map<String, Map<String, Schema>> definitions = swaggerGenerator.generateSwaggerFile(swaggerModels,
+                classPackageMap, outputPath);
 
-                // Load the class dynamically using reflection
-                Class<?> clazz = Class.forName(fullClassName);
+        // Serve the generated document, published before listening so no request finds the server empty;
+        // the server keeps the application running
+        if (serve) {
+            specServer.getObject().publish(Paths.get(outputPath), definitions);
+            specServer.getObject().start();
+        }
 
-                // Analyze the class structure to generate its Swagger model definition
-                Map<String, String> classDefinition = ObjectAnalyzer.analyzeClass(clazz);
+        // Log the description cache statistics, to size it for larger model sets
+        descriptionCache.logStatistics();
 
-                // Add the class definition to the Swagger models map
-                swaggerModels.put(className, classDefinition);
-            } catch (ClassNotFoundException e) {
-                log.error("Class not found: {}", className, e);
-            }
-        });
+        long endTime = System.currentTimeMillis();
 
-        // Generate the Swagger YAML file with the collected models
-        swaggerGenerator.generateSwaggerFile(swaggerModels, "swagger.yaml");
+        // Write the metrics of the run, to track trends in CI
+        if (!summaryPath.isBlank()) {
+            generationMetrics.writeSummary(Paths.get(summaryPath), endTime - startTime);
+        }
+
+        if (watch && !sourceJars.isEmpty()) {
+            log.warn("Watch mode is not available for source archives, the application stops");
+        } else if (watch) {
+            // The watch loop runs on its own thread, stopped when the context is closed
+            log.info("SwaggerApp generated in {} ms, watching for changes", (endTime - startTime));
+            watchDaemon.launch(() -> this.watch(Paths.get(sourceDir), scanResult, swaggerModels));
+            return;
+        }
 
-        long endTime = System.currentTimeMillis();
         log.info("SwaggerApp stopped in {} ms", (endTime - startTime));
     }
+
+    /**
+     * Watches the source directory and the class output directories, regenerating the document
+     * after each burst of changes. Only the classes of the changed files are analyzed again; the
+     * context, the connection pool and the description cache stay warm between runs. Each
+     * regeneration is a run of its own: its metrics start from zero and are written to the
+     * summary, and the incremental manifest is updated with the classes analyzed again.
+     *
+     * @param sourceDir     the scanned source directory
+     * @param scanResult    the classes found by the initial scan
+     * @param swaggerModels the models of the initial run
+     * @throws IOException          if the directories cannot be watched
+     * @throws InterruptedException when the context is closed
+     */
+    private void watch(final Path sourceDir, final ScanResult scanResult,
+                       final Map<String, Map<String, Schema>> swaggerModels) throws IOException, InterruptedException {
+
+        List<Path> roots = new ArrayList<>();
+        roots.add(sourceDir);
+        classesDirs.stream().map(Paths::get).forEach(roots::add);
+
+        Map<String, SourceFile> sources = new TreeMap<>(scanResult.classes());
+        Map<String, Map<String, Schema>> models = new TreeMap<>(swaggerModels);
+        ModelManifest manifest = incremental ? ModelManifest.load(Paths.get(manifestPath), this.analysisConfiguration()) : null;
+        try (SourceWatcher watcher = SourceWatcher.start(roots, debounce)) {
+            while (!Thread.currentThread().isInterrupted()) {
+                SourceWatcher.Changes changes = watcher.awaitChanges();
+                long startTime = System.currentTimeMillis();
+                generationMetrics.reset();
+                try {
+                    Set<String> analyzed = this.applyChanges(sourceDir, changes, sources, models);
+                    if (analyzed == null) {
+                        continue;
+                    }
+                    Map<String, String> classPackageMap = new LinkedHashMap<>();
+                    sources.forEach((className, source) -> classPackageMap.put(className, source.packageName()));
+                    Map<String, Map<String, Schema>> definitions =
+                            swaggerGenerator.generateSwaggerFile(models, classPackageMap, outputPath);
+                    if (manifest != null) {
+                        this.updateManifest(manifest, analyzed, sources, models);
+                    }
+                    if (serve) {
+                        specServer.getObject().publish(Paths.get(outputPath), definitions);
+                    }
+                    long duration = System.currentTimeMillis() - startTime;
+                    if (!summaryPath.isBlank()) {
+                        generationMetrics.writeSummary(Paths.get(summaryPath), duration);
+                    }
+                    log.info("Swagger file regenerated in {} ms ({} classes analyzed)", duration, analyzed.size());
+                } catch (IllegalStateException e) {
+                    // Keep watching, the next change may fix the document; the last valid one is still served
+                    log.error(e.getMessage());
+                } catch (IOException e) {
+                    // A locked or unreadable file only fails this regeneration
+                    log.error("Swagger file not regenerated", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the classes analyzed again in the manifest and saves it.
+     */
+    private void updateManifest(final ModelManifest manifest, final Set<String> analyzed,
+                                final Map<String, SourceFile> sources, final Map<String, Map<String, Schema>> models)
+            throws IOException {
+        manifest.retainAll(sources.keySet());
+        for (String className : analyzed) {
+            Map<String, Schema> definition = models.get(className);
+            if (definition != null && sources.containsKey(className)) {
+                manifest.put(sources.get(className), definition);
+            }
+        }
+        manifest.save(Paths.get(manifestPath));
+    }
+
+    /**
+     * Updates the sources and models with a batch of changes: changed source or class files are
+     * analyzed again, deleted sources are removed, and lost events trigger a full scan.
+     *
+     * @return the names of the classes analyzed again, or null if the changes do not affect any class
+     */
+    private Set<String> applyChanges(final Path sourceDir, final SourceWatcher.Changes changes,
+                                     final Map<String, SourceFile> sources,
+                                     final Map<String, Map<String, Schema>> models)
+            throws IOException, InterruptedException {
+
+        if (changes.rescan()) {
+            log.info("Watched directories changed, scanning again");
+            ScanResult scanResult = JavaSourceScanner.scan(sourceDir, modelFilter);
+            sources.clear();
+            sources.putAll(scanResult.classes());
+            models.clear();
+            models.putAll(modelAnalysisEngine.analyze(scanResult.classPackageMap()));
+            return new HashSet<>(sources.keySet());
+        }
+
+        // Classes to analyze again, from their source or class files
+        Map<String, String> changedClasses = new LinkedHashMap<>();
+        boolean removed = false;
+        for (Path path : changes.files()) {
+            String fileName = path.getFileName().toString();
+            if (path.startsWith(sourceDir) && JavaSourceScanner.isSourceFile(path)) {
+                SourceFile source = Files.isRegularFile(path) ? JavaSourceScanner.readSource(path) : null;
+                if (source != null && !modelFilter.excludesClass(source.className(), source.packageName())) {
+                    sources.put(source.className(), source);
+                    changedClasses.put(source.className(), source.packageName());
+                } else {
+                    // Deleted or now excluded
+                    String className = fileName.substring(0, fileName.length() - ".java".length());
+                    SourceFile previous = sources.get(className);
+                    if (previous != null && previous.path().equals(path)) {
+                        sources.remove(className);
+                        models.remove(className);
+                        removed = true;
+                    }
+                }
+            } else if (fileName.endsWith(".class")) {
+                // Nested classes belong to the model of their top-level class
+                String className = fileName.substring(0, fileName.length() - ".class".length()).split("\\$")[0];
+                SourceFile source = sources.get(className);
+                if (source != null) {
+                    changedClasses.put(className, source.packageName());
+                }
+            }
+        }
+        if (changedClasses.isEmpty() && !removed) {
+            return null;
+        }
+
+        // Replace the changed definitions, and refresh those of the classes they reference
+        for (Map.Entry<String, Map<String, Schema>> entry : modelAnalysisEngine.analyze(changedClasses).entrySet()) {
+            if (changedClasses.containsKey(entry.getKey()) || !sources.containsKey(entry.getKey())) {
+                models.put(entry.getKey(), entry.getValue());
+            }
+        }
+        models.keySet().retainAll(reachableModels(models, sources.keySet()));
+        return changedClasses.keySet();
+    }
+
+    /**
+     * Analyzes only the new or changed classes, reusing the definitions stored in the manifest
+     * for the unchanged ones, and updates the manifest. The definitions of the referenced types with
+     * no source are stored with the fingerprint of their class file: an unchanged class is analyzed
+     * again only when one of the types it reaches that way changed or can no longer be located.
+     *
+     * @param scanResult the classes found in the source directory
+     * @return the Swagger models of every class, sorted by class name
+     */
+    private Map<String, Map<String, Schema>> analyzeIncrementally(final ScanResult scanResult)
+            throws IOException, InterruptedException {
+
+        Path manifestFile = Paths.get(manifestPath);
+        ModelManifest manifest = ModelManifest.load(manifestFile, this.analysisConfiguration());
+        manifest.retainAll(scanResult.classes().keySet());
+
+        // Stored definitions of the referenced types with no source whose class file is unchanged
+        Map<String, Map<String, Schema>> referencedModels = new HashMap<>();
+        for (Map.Entry<String, String> referenced : manifest.referencedClasses().entrySet()) {
+            if (!scanResult.classes().containsKey(referenced.getKey())) {
+                Map<String, Schema> definition = manifest.findUnchangedReference(referenced.getKey(),
+                        modelAnalysisEngine.classFile(referenced.getValue()));
+                if (definition != null) {
+                    referencedModels.put(referenced.getKey(), definition);
+                }
+            }
+        }
+
+        // Reuse the stored definitions of the unchanged classes whose references with no source are unchanged too
+        Map<String, Map<String, Schema>> swaggerModels = new TreeMap<>();
+        Map<String, String> changedClasses = new LinkedHashMap<>();
+        int referencing = 0;
+        for (SourceFile source : scanResult.classes().values()) {
+            Map<String, Schema> definition = manifest.findUnchanged(source);
+            if (definition != null && referencesChanged(definition, scanResult.classes().keySet(), referencedModels)) {
+                referencing++;
+                definition = null;
+            }
+            if (definition != null) {
+                swaggerModels.put(source.className(), definition);
+            } else {
+                changedClasses.put(source.className(), source.packageName());
+            }
+        }
+        log.info("Incremental run: {} classes unchanged, {} to be analyzed ({} for a changed referenced class)",
+                swaggerModels.size(), changedClasses.size(), referencing);
+
+        // Analyze the new or changed classes and record them, and the types they reference, in the manifest
+        Map<String, String> referencedClasses = new HashMap<>();
+        Map<String, Map<String, Schema>> analyzed = modelAnalysisEngine.analyze(changedClasses, referencedClasses);
+        for (Map.Entry<String, Map<String, Schema>> entry : analyzed.entrySet()) {
+            if (changedClasses.containsKey(entry.getKey())) {
+                manifest.put(scanResult.classes().get(entry.getKey()), entry.getValue());
+                swaggerModels.put(entry.getKey(), entry.getValue());
+            } else if (!scanResult.classes().containsKey(entry.getKey())) {
+                swaggerModels.put(entry.getKey(), entry.getValue());
+                String fullClassName = referencedClasses.get(entry.getKey());
+                SourceFile classFile = fullClassName != null ? modelAnalysisEngine.classFile(fullClassName) : null;
+                if (classFile != null) {
+                    manifest.putReference(entry.getKey(), classFile, entry.getValue());
+                }
+            }
+        }
+        referencedModels.forEach(swaggerModels::putIfAbsent);
+        swaggerModels.keySet().retainAll(reachableModels(swaggerModels, scanResult.classes().keySet()));
+
+        // Keep the referenced types that are still reached and still have no source
+        Set<String> referencedNames = new HashSet<>(swaggerModels.keySet());
+        referencedNames.removeAll(scanResult.classes().keySet());
+        manifest.retainReferences(referencedNames);
+        manifest.save(manifestFile);
+        return swaggerModels;
+    }
+
+    /**
+     * Returns the configuration the definitions depend on, recorded in the incremental manifest.
+     */
+    private String analysisConfiguration() {
+        return "mode=" + analysisMode.toLowerCase(Locale.ROOT) + ";" + modelFilter.fingerprint();
+    }
+
+    /**
+     * Checks whether a definition reaches a model that is neither one of the given classes nor one of the
+     * unchanged referenced models, following the references of the latter.
+     */
+    private static boolean referencesChanged(final Map<String, Schema> definition, final Set<String> classNames,
+                                             final Map<String, Map<String, Schema>> referencedModels) {
+        Set<String> visited = new HashSet<>();
+        Deque<Map<String, Schema>> pending = new ArrayDeque<>();
+        pending.add(definition);
+        while (!pending.isEmpty()) {
+            for (Schema schema : pending.poll().values()) {
+                Schema referenced = schema.elementSchema();
+                if (referenced.isRef() && !classNames.contains(referenced.ref()) && visited.add(referenced.ref())) {
+                    Map<String, Schema> referencedModel = referencedModels.get(referenced.ref());
+                    if (referencedModel == null) {
+                        return true;
+                    }
+                    pending.add(referencedModel);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the names of the models reachable through references from the given root models.
+     */
+    private static Set<String> reachableModels(final Map<String, Map<String, Schema>> swaggerModels,
+                                               final Set<String> roots) {
+        Set<String> reachable = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            String name = pending.poll();
+            Map<String, Schema> definition = swaggerModels.get(name);
+            if (definition != null && reachable.add(name)) {
+                for (Schema schema : definition.values()) {
+                    Schema referenced = schema.elementSchema();
+                    if (referenced.isRef()) {
+                        pending.add(referenced.ref());
+                    }
+                }
+            }
+        }
+        return reachable;
+    }
 }
@@ -0,0 +1,105 @@
+package com.mapfre.tron.api.swaggergen.bootstrap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Owner of the watch-mode thread.
+ * <p>
+ * The watch loop runs on its own non-daemon thread, so the application keeps running once
+ * {@code SpringApplication.run} has returned and the context is ready. When the context is closed
+ * (for example by the shutdown hook on {@code SIGTERM}) the thread is interrupted, which ends the
+ * wait for file changes, and joined for at most {@link #STOP_TIMEOUT}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:15
+ * @since jdk 1.17
+ */
+@Component
+@Slf4j
+public class WatchDaemon implements SmartLifecycle {
+
+    /**
+     * Maximum time to wait for the running regeneration to end when the context is closed.
+     */
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(10);
+
+    private Thread thread;
+
+    private volatile boolean running;
+
+    /**
+     * Loop run by the watch thread, until it returns or the thread is interrupted.
+     */
+    @FunctionalInterface
+    public interface Loop {
+
+        /**
+         * Runs the loop.
+         *
+         * @throws Exception if the loop cannot go on
+         */
+        void run() throws Exception;
+    }
+
+    /**
+     * Starts the watch thread running the given loop.
+     *
+     * @param loop the watch loop
+     * @throws IllegalStateException if a loop is already running or the context is not running
+     */
+    public synchronized void launch(final Loop loop) {
+        if (thread != null) {
+            throw new IllegalStateException("Watch loop already running");
+        }
+        if (!running) {
+            throw new IllegalStateException("Watch loop not started, the application context is not running");
+        }
+        thread = new Thread(() -> {
+            try {
+                loop.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Watch loop stopped", e);
+            }
+            log.info("Watch loop stopped");
+        }, "swaggergen-watch");
+        thread.start();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * Interrupts the watch thread and waits for it to end.
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join(STOP_TIMEOUT.toMillis());
+            if (thread.isAlive()) {
+                log.warn("Watch loop still running {} after the stop request", STOP_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Base of the {@link SpecWriter} implementations writing to a file.
+ * <p>
+ * The document is written in UTF-8 to a temporary file next to the target, which replaces it
+ * atomically on {@link #commit()}. A writer closed without being committed deletes the temporary
+ * file and leaves the previous document untouched.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:34
+ * @since jdk 1.17
+ */
+@Slf4j
+public abstract class AbstractSpecWriter implements SpecWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    protected final SpecFormat format;
+
+    protected final Writer writer;
+
+    private final Path target;
+
+    private final Path temp;
+
+    private final FileChannel channel;
+
+    private boolean finished;
+
+    private boolean committed;
+
+    /**
+     * Opens a writer of the given format for the given target file.
+     *
+     * @param target the file where the document will be written on commit
+     * @param format the format of the document
+     * @throws IOException if the temporary file cannot be created
+     */
+    protected AbstractSpecWriter(final Path target, final SpecFormat format) throws IOException {
+        this.format = format;
+        this.target = target.toAbsolutePath();
+        this.temp = FileUtils.createTempFile(this.target);
+        this.channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a writer of the given format over an in-memory writer, which cannot be committed.
+     *
+     * @param writer the writer receiving the document
+     * @param format the format of the document
+     */
+    protected AbstractSpecWriter(final Writer writer, final SpecFormat format) {
+        this.format = format;
+        this.target = null;
+        this.temp = null;
+        this.channel = null;
+        this.writer = writer;
+    }
+
+    /**
+     * Returns the channel of the temporary file, for the content transferred without decoding it.
+     * Everything written to the {@link #writer} must be flushed before writing to the channel.
+     *
+     * @return the channel of the temporary file
+     */
+    protected FileChannel channel() {
+        return channel;
+    }
+
+    /**
+     * Writes the end of the document, before it is committed.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    protected void writeFooter() throws IOException {
+        // Nothing to close by default
+    }
+
+    /**
+     * Completes the document in the temporary file without replacing the target, so it can be
+     * checked first; {@link #commit()} then only moves it.
+     *
+     * @return the temporary file holding the complete document
+     * @throws IOException if an I/O error occurs while flushing the file
+     */
+    public Path finish() throws IOException {
+        if (!finished) {
+            this.writeFooter();
+            writer.flush();
+            if (channel != null) {
+                channel.force(false);
+            }
+            writer.close();
+            finished = true;
+        }
+        return temp;
+    }
+
+    /**
+     * Returns the file replaced by the document on commit.
+     *
+     * @return the absolute path of the target file
+     */
+    public Path target() {
+        return target;
+    }
+
+    /**
+     * Returns the format of the document.
+     *
+     * @return the format
+     */
+    public SpecFormat format() {
+        return format;
+    }
+
+    @Override
+    public void commit() throws IOException {
+        this.finish();
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        committed = true;
+        log.info("Swagger file written: {} ({} bytes)", target, Files.size(target));
+    }
+
+    /**
+     * Closes the writer, discarding the temporary file if the document was not committed.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (!committed && temp != null) {
+            try {
+                writer.close();
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+}
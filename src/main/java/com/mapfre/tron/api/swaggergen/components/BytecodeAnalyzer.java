@@ -0,0 +1,429 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.FieldVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Analyzer that reads compiled {@code .class} files instead of loading the classes.
+ * <p>
+ * Field names, types and generic signatures are read with the ASM library bundled in Spring,
+ * so no static initializer is run, no metaspace is used for the models and their dependencies
+ * do not need to be on the classpath. The definitions are the same as those produced by
+ * {@link ObjectAnalyzer#analyzeClass(Class)}: a field is an array when its type implements
+ * {@link List}, which is checked against the JDK for {@code java.*} types and by walking the
+ * class files of the other types, and enums and interfaces are told apart by the header of their
+ * class file. Types without a class file are written as free-form objects. Referenced types are followed to their transitive closure
+ * by {@link #analyzeReferencedClasses(Collection)}, as {@link ObjectAnalyzer} does, and the
+ * {@link ModelFilter} is applied the same way; annotations are read from the class files, so
+ * classes excluded by an annotation are not loaded either.
+ * <p>
+ * Instances are thread-safe and hold the state of a single run; each class file is read and
+ * analyzed once per run.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:45
+ * @since jdk 1.17
+ */
+@Slf4j
+public class BytecodeAnalyzer {
+
+    private static final int PARSING_OPTIONS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+
+    /**
+     * Directories holding the compiled classes, searched in order.
+     */
+    private final List<Path> classesDirs;
+
+    /**
+     * Analysis of a class file: its definition, the types it references by definition name and
+     * whether it is excluded by the filter.
+     */
+    private record Analysis(Map<String, Schema> definition, Map<String, String> references, boolean excluded) {
+    }
+
+    /**
+     * Header of a class file: its access flags and, for enums, the constant names in declaration order.
+     */
+    private record Declaration(int access, List<String> enumConstants) {
+    }
+
+    /**
+     * Declaration of the types without a class file.
+     */
+    private static final Declaration MISSING = new Declaration(0, List.of());
+
+    private final ModelFilter filter;
+
+    // Analysis of each class, by internal name, computed once per class and scoped to this run
+    private final Map<String, Analysis> analyses = new ConcurrentHashMap<>();
+
+    // Declaration of each referenced type, by internal name
+    private final Map<String, Declaration> declarations = new ConcurrentHashMap<>();
+
+    // Whether each looked up type implements List, by internal name
+    private final Map<String, Boolean> listTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an analyzer over the given class output directories.
+     *
+     * @param classesDirs the directories holding the compiled classes
+     */
+    public BytecodeAnalyzer(final List<Path> classesDirs) {
+        this(classesDirs, ModelFilter.none());
+    }
+
+    /**
+     * Creates an analyzer over the given class output directories that leaves out the classes
+     * and fields excluded by the given filter.
+     *
+     * @param classesDirs the directories holding the compiled classes
+     * @param filter      the exclusion rules
+     */
+    public BytecodeAnalyzer(final List<Path> classesDirs, final ModelFilter filter) {
+        this.classesDirs = List.copyOf(classesDirs);
+        this.filter = filter;
+    }
+
+    /**
+     * Checks whether a class is excluded by its name, package or annotations.
+     *
+     * @param fullClassName the fully qualified class name
+     * @return true if the class is excluded
+     * @throws IOException if the class file cannot be found or read
+     */
+    public boolean isExcluded(final String fullClassName) throws IOException {
+        return this.analysis(fullClassName.replace('.', '/')).excluded();
+    }
+
+    /**
+     * Analyzes the class file of the given class and generates its Swagger model definition.
+     *
+     * @param fullClassName the fully qualified class name
+     * @return a map representing the Swagger model for the given class
+     * @throws IOException if the class file cannot be found or read
+     */
+    public Map<String, Schema> analyzeClass(final String fullClassName) throws IOException {
+        return this.analysis(fullClassName.replace('.', '/')).definition();
+    }
+
+    /**
+     * Follows the references of the given classes to their transitive closure, analyzing each
+     * referenced class once. When two referenced classes share a simple name, the first
+     * one reached keeps the definition and the collision is reported.
+     *
+     * @param fullClassNames the fully qualified names of the classes whose references are followed, in a stable order
+     * @return the definitions of the referenced classes that are not part of the given ones,
+     * by the name used in their references
+     * @throws IOException if a class file cannot be read
+     */
+    public Map<String, Map<String, Schema>> analyzeReferencedClasses(final Collection<String> fullClassNames)
+            throws IOException {
+        return this.analyzeReferencedClasses(fullClassNames, new HashMap<>());
+    }
+
+    /**
+     * Follows the references of the given classes as {@link #analyzeReferencedClasses(Collection)} does,
+     * also collecting the fully qualified name of the class behind each returned definition.
+     *
+     * @param fullClassNames the fully qualified names of the classes whose references are followed, in a stable order
+     * @param origins        receives the fully qualified class name of each returned definition, by definition name
+     * @return the definitions of the referenced classes that are not part of the given ones,
+     * by the name used in their references
+     * @throws IOException if a class file cannot be read
+     */
+    public Map<String, Map<String, Schema>> analyzeReferencedClasses(final Collection<String> fullClassNames,
+                                                                     final Map<String, String> origins)
+            throws IOException {
+        Map<String, Map<String, Schema>> referenced = new HashMap<>();
+        Map<String, String> owners = new HashMap<>();
+        Set<String> visited = new HashSet<>();
+
+        // Worklist of the references still to be analyzed
+        Deque<Map.Entry<String, String>> pending = new ArrayDeque<>();
+        for (String fullClassName : fullClassNames) {
+            String internalName = fullClassName.replace('.', '/');
+            visited.add(internalName);
+            Analysis analysis = analyses.get(internalName);
+            if (analysis != null) {
+                pending.addAll(analysis.references().entrySet());
+            }
+        }
+        while (!pending.isEmpty()) {
+            Map.Entry<String, String> reference = pending.poll();
+            if (!visited.add(reference.getValue())) {
+                continue;
+            }
+            Analysis analysis = this.analysis(reference.getValue());
+            if (!analysis.excluded()) {
+                String owner = owners.putIfAbsent(reference.getKey(), reference.getValue());
+                if (owner == null) {
+                    referenced.put(reference.getKey(), analysis.definition());
+                    origins.put(reference.getKey(), reference.getValue().replace('/', '.'));
+                } else {
+                    log.warn("Referenced class {} ignored, definition {} taken by {}",
+                            reference.getValue().replace('/', '.'), reference.getKey(), owner.replace('/', '.'));
+                }
+                pending.addAll(analysis.references().entrySet());
+            }
+        }
+        return referenced;
+    }
+
+    /**
+     * Returns the memoized analysis of a class, reading its class file the first time.
+     */
+    private Analysis analysis(final String internalName) throws IOException {
+        Analysis analysis = analyses.get(internalName);
+        if (analysis != null) {
+            return analysis;
+        }
+
+        byte[] bytes = this.readClassFile(internalName);
+        if (bytes == null) {
+            throw new IOException("Class file not found: " + internalName.replace('/', '.'));
+        }
+
+        // Collect the declared fields, with their descriptors and generic signatures, and the annotations
+        List<String[]> fields = new ArrayList<>();
+        List<String> classAnnotations = new ArrayList<>();
+        ClassReader reader = new ClassReader(bytes);
+        reader.accept(new ClassVisitor(SpringAsmInfo.ASM_VERSION) {
+            @Override
+            public AnnotationVisitor visitAnnotation(final String descriptor, final boolean visible) {
+                classAnnotations.add(Type.getType(descriptor).getClassName());
+                return null;
+            }
+
+            @Override
+            public FieldVisitor visitField(final int access, final String name, final String descriptor,
+                                           final String signature, final Object value) {
+                // Skip the fields excluded by name or modifiers
+                if (filter.excludesField(name, access)) {
+                    return null;
+                }
+                if (!filter.hasAnnotationRules()) {
+                    fields.add(new String[]{name, descriptor, signature});
+                    return null;
+                }
+                // Skip the fields excluded by their annotations, once they are all read
+                List<String> fieldAnnotations = new ArrayList<>();
+                return new FieldVisitor(SpringAsmInfo.ASM_VERSION) {
+                    @Override
+                    public AnnotationVisitor visitAnnotation(final String annotationDescriptor, final boolean visible) {
+                        fieldAnnotations.add(Type.getType(annotationDescriptor).getClassName());
+                        return null;
+                    }
+
+                    @Override
+                    public void visitEnd() {
+                        if (!filter.excludesAnnotated(fieldAnnotations)) {
+                            fields.add(new String[]{name, descriptor, signature});
+                        }
+                    }
+                };
+            }
+        }, PARSING_OPTIONS);
+
+        // Map to hold the Swagger model for the current class
+        Map<String, Schema> swaggerModel = new HashMap<>();
+        Map<String, String> references = new HashMap<>();
+        for (String[] field : fields) {
+            swaggerModel.put(field[0], this.fieldSchema(field[1], field[2], references));
+        }
+        int packageEnd = internalName.lastIndexOf('/');
+        boolean excluded = filter.excludesClass(simpleName(internalName),
+                packageEnd < 0 ? "" : internalName.substring(0, packageEnd).replace('/', '.'))
+                || filter.excludesAnnotated(classAnnotations);
+        Analysis previous = analyses.putIfAbsent(internalName, new Analysis(swaggerModel, references, excluded));
+        return previous != null ? previous : analyses.get(internalName);
+    }
+
+    /**
+     * Maps a field to its schema with the same rules as {@link ObjectAnalyzer}, recording the
+     * referenced types by definition name.
+     */
+    private Schema fieldSchema(final String descriptor, final String signature, final Map<String, String> references)
+            throws IOException {
+        Type type = Type.getType(descriptor);
+
+        // Handle List fields by the schema of their element type
+        if (type.getSort() == Type.OBJECT && this.isList(type.getInternalName())) {
+            String elementType = signature != null ? elementType(signature) : null;
+            return Schema.arrayOf(elementType != null ? this.typeSchema(Type.getObjectType(elementType), references)
+                    : ObjectAnalyzer.primitiveSchema("Object"));
+        }
+        // Handle the other fields by their type
+        return this.typeSchema(type, references);
+    }
+
+    /**
+     * Maps a type to its schema with the same rules as {@link ObjectAnalyzer}, recording the
+     * referenced types by definition name.
+     */
+    private Schema typeSchema(final Type type, final Map<String, String> references) throws IOException {
+        // Handle arrays by the schema of their component type, with a special case for byte arrays
+        if (type.getSort() == Type.ARRAY) {
+            Type componentType = Type.getType(type.getDescriptor().substring(1));
+            return componentType.getSort() == Type.BYTE ? Schema.BINARY
+                    : Schema.arrayOf(this.typeSchema(componentType, references));
+        }
+        // Handle primitive types and map them to the shared Swagger schemas
+        if (type.getSort() != Type.OBJECT || type.getInternalName().startsWith("java/")) {
+            return ObjectAnalyzer.primitiveSchema(simpleName(type));
+        }
+        // Enums, interfaces and types without a class file have no properties to define, excluded classes are not defined
+        String name = simpleName(type.getInternalName());
+        String packageName = type.getClassName().substring(0, Math.max(type.getClassName().lastIndexOf('.'), 0));
+        if (filter.excludesClass(name, packageName)) {
+            return Schema.OBJECT;
+        }
+        Declaration declaration = this.declaration(type.getInternalName());
+        if ((declaration.access() & Opcodes.ACC_ENUM) != 0) {
+            return Schema.enumOf(declaration.enumConstants());
+        }
+        if (declaration == MISSING || (declaration.access() & Opcodes.ACC_INTERFACE) != 0) {
+            return Schema.OBJECT;
+        }
+        // Handle object types by referencing their Swagger definitions
+        references.putIfAbsent(name, type.getInternalName());
+        return Schema.ref(name);
+    }
+
+    /**
+     * Returns the memoized declaration of a type, reading the header of its class file the first time.
+     */
+    private Declaration declaration(final String internalName) throws IOException {
+        Declaration declaration = declarations.get(internalName);
+        if (declaration != null) {
+            return declaration;
+        }
+        byte[] bytes = this.readClassFile(internalName);
+        if (bytes == null) {
+            log.warn("Referenced class file not found, written as a free-form object: {}", internalName);
+            declaration = MISSING;
+        } else {
+            ClassReader reader = new ClassReader(bytes);
+            List<String> constants = new ArrayList<>();
+            if ((reader.getAccess() & Opcodes.ACC_ENUM) != 0) {
+                reader.accept(new ClassVisitor(SpringAsmInfo.ASM_VERSION) {
+                    @Override
+                    public FieldVisitor visitField(final int access, final String name, final String descriptor,
+                                                   final String signature, final Object value) {
+                        if ((access & Opcodes.ACC_ENUM) != 0) {
+                            constants.add(name);
+                        }
+                        return null;
+                    }
+                }, PARSING_OPTIONS);
+            }
+            declaration = new Declaration(reader.getAccess(), List.copyOf(constants));
+        }
+        Declaration previous = declarations.putIfAbsent(internalName, declaration);
+        return previous != null ? previous : declaration;
+    }
+
+    /**
+     * Checks whether a type implements {@link List}, using the JDK for {@code java.*} types
+     * and the class files for the others.
+     */
+    private boolean isList(final String internalName) {
+        Boolean cached = listTypes.get(internalName);
+        if (cached != null) {
+            return cached;
+        }
+        boolean list;
+        if (internalName.startsWith("java/")) {
+            try {
+                list = List.class.isAssignableFrom(Class.forName(internalName.replace('/', '.'), false,
+                        ClassLoader.getPlatformClassLoader()));
+            } catch (ClassNotFoundException e) {
+                list = false;
+            }
+        } else {
+            list = false;
+            try {
+                byte[] bytes = this.readClassFile(internalName);
+                if (bytes != null) {
+                    ClassReader reader = new ClassReader(bytes);
+                    if (reader.getSuperName() != null && this.isList(reader.getSuperName())) {
+                        list = true;
+                    }
+                    for (String anInterface : reader.getInterfaces()) {
+                        list = list || this.isList(anInterface);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Class file not readable: {}", internalName, e);
+            }
+        }
+        listTypes.put(internalName, list);
+        return list;
+    }
+
+    /**
+     * Reads a class file from the first directory that holds it.
+     *
+     * @return the class file content, or null if no directory holds it
+     */
+    private byte[] readClassFile(final String internalName) throws IOException {
+        for (Path dir : classesDirs) {
+            Path classFile = dir.resolve(internalName + ".class");
+            if (Files.isRegularFile(classFile)) {
+                return Files.readAllBytes(classFile);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the simple name of a type, as {@link Class#getSimpleName()} does.
+     */
+    private static String simpleName(final Type type) {
+        return switch (type.getSort()) {
+            case Type.ARRAY -> simpleName(type.getElementType()) + "[]".repeat(type.getDimensions());
+            case Type.OBJECT -> simpleName(type.getInternalName());
+            default -> type.getClassName();
+        };
+    }
+
+    /**
+     * Returns the internal name of the first type argument of a field signature, if it is a class type.
+     */
+    private static String elementType(final String signature) {
+        int start = signature.indexOf('<');
+        if (start < 0 || signature.charAt(start + 1) != 'L') {
+            return null;
+        }
+        int end = start + 2;
+        while (signature.charAt(end) != ';' && signature.charAt(end) != '<') {
+            end++;
+        }
+        return signature.substring(start + 2, end);
+    }
+
+    private static String simpleName(final String internalName) {
+        return internalName.substring(Math.max(internalName.lastIndexOf('/'), internalName.lastIndexOf('$')) + 1);
+    }
+
+}
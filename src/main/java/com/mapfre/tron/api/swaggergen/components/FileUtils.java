@@ -1,14 +1,14 @@
 package com.mapfre.tron.api.swaggergen.components;
 
-import org.springframework.stereotype.Component;
-
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.HashMap;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 
 /**
  * Utility class for file operations, specifically for finding Java files and extracting package names.
@@ -21,68 +21,68 @@ import java.util.Objects;
  * such as code generation.
  *
  * @author architecture - rperezv
- * @version 23/10/2024 - 09:49
+ * @version 16/10/2026 - 22:21
  * @since jdk 1.17
  */
 public class FileUtils {
 
+    /**
+     * Permissions of a new file published through a temporary file: rw-r--r--.
+     */
+    private static final Set<PosixFilePermission> DEFAULT_PERMISSIONS = PosixFilePermissions.fromString("rw-r--r--");
+
     /**
      * Recursively searches the specified directory for Java files and maps each found class name
      * to its corresponding package name.
      * <p>
-     * This method explores directories and subdirectories, identifying `.java` files, extracting the class names
-     * from the filenames, and reading the source files to obtain their package declarations. The result is a map
-     * where the key is the class name and the value is the package name.
+     * The directory tree is walked in parallel by {@link JavaSourceScanner}, which reads only the header
+     * of each `.java` file to obtain its package declaration. The result is a map where the key is the
+     * class name and the value is the package name; duplicated class names are logged and only the first
+     * one (by path) is kept.
      *
      * @param dir The root directory to search for Java files.
      * @return A map where each class name is associated with its package name.
      * @throws IOException If an error occurs while reading a file or directory.
      */
     public static Map<String, String> findJavaFilesWithPackages(File dir) throws IOException {
-        Map<String, String> classPackageMap = new HashMap<>();
-
-        // Loop through files and directories in the provided directory
-        for (File file : Objects.requireNonNull(dir.listFiles())) {
-            if (file.isDirectory()) {
-                // Recursively search subdirectories for Java files
-                classPackageMap.putAll(findJavaFilesWithPackages(file));
-            } else if (file.getName().endsWith(".java")) {
-                // Extract the class name by removing the ".java" extension
-                String className = file.getName().replace(".java", "");
-
-                // Extract the package name from the file content
-                String packageName = extractPackageName(file);
+        return findJavaFilesWithPackages(dir, ModelFilter.none());
+    }
 
-                // Store the class name and package name in the map
-                classPackageMap.put(className, packageName);
-            }
-        }
-        return classPackageMap;
+    /**
+     * Recursively searches the specified directory for Java files, as {@link #findJavaFilesWithPackages(File)}
+     * does, leaving out the classes excluded by the given filter before they are ever loaded.
+     *
+     * @param dir    The root directory to search for Java files.
+     * @param filter The rules excluding classes by name or package.
+     * @return A map where each class name that is not excluded is associated with its package name.
+     * @throws IOException If an error occurs while reading a file or directory.
+     */
+    public static Map<String, String> findJavaFilesWithPackages(File dir, ModelFilter filter) throws IOException {
+        return JavaSourceScanner.scan(dir.toPath(), filter).classPackageMap();
     }
 
     /**
-     * Extracts the package name from a given Java source file.
+     * Creates a temporary file next to the given target, meant to replace it with an atomic move.
      * <p>
-     * This method reads the content of a `.java` file line by line, looking for the line that starts with
-     * the `package` keyword, which indicates the package declaration. Once found, it removes the `package`
-     * keyword and the semicolon, returning the clean package name.
+     * The temporary file is created private ({@code rw-------}) on POSIX file systems and the move keeps
+     * that mode, so it gets the permissions of the existing target, or {@code rw-r--r--} when there is none.
      *
-     * @param file The Java source file to analyze.
-     * @return The package name of the class in the file, or an empty string if no package is declared.
-     * @throws IOException If an error occurs while reading the file.
+     * @param target the file the temporary file will replace
+     * @return the temporary file, empty
+     * @throws IOException if the file cannot be created or its permissions cannot be set
      */
-    private static String extractPackageName(File file) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            // Read the file line by line, searching for the package declaration
-            return reader.lines()
-                    // Clean and return the package name
-                    .filter(line -> line.startsWith("package "))
-                    .map(line -> line.replace("package ", "").replace(";", "").trim())
-                    // Return the first matching line
-                    .findFirst()
-                    // If no package declaration is found, return an empty string
-                    .orElse("");
+    public static Path createTempFile(Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        PosixFileAttributeView view = Files.getFileAttributeView(temp, PosixFileAttributeView.class);
+        if (view != null) {
+            try {
+                view.setPermissions(Files.exists(target) ? Files.getPosixFilePermissions(target) : DEFAULT_PERMISSIONS);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
         }
+        return temp;
     }
 
 }
@@ -0,0 +1,139 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import com.mapfre.tron.api.swaggergen.components.JavaSourceScanner.ScanResult;
+import com.mapfre.tron.api.swaggergen.components.JavaSourceScanner.SourceFile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Scanner of the model classes packaged in JAR archives.
+ * <p>
+ * The archives are read in parallel, one per task. Only the central directory of each archive is
+ * read: entries are matched by name, so no entry is inflated. Nested classes ({@code $} in the
+ * name), {@code module-info}, {@code package-info} and the {@code META-INF} entries are skipped.
+ * The result has the same shape as a {@link JavaSourceScanner} scan, so it feeds the same pipeline:
+ * each class is recorded with the path of its archive, the uncompressed size of its entry and, in
+ * place of a modification time, which reproducible builds fix, the CRC-32 of the entry.
+ * <p>
+ * Class names found in more than one package are reported as duplicates: the archive listed
+ * first wins. Classes excluded by the {@link ModelFilter} are left out of the result.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 20:57
+ * @since jdk 1.17
+ */
+@Slf4j
+public final class JarClassScanner {
+
+    private static final String CLASS_EXTENSION = ".class";
+
+    private JarClassScanner() {
+    }
+
+    /**
+     * Scans the given archives for the classes of the given packages, leaving out the classes
+     * excluded by the given filter.
+     *
+     * @param jars            the archives to scan, in priority order
+     * @param packagePrefixes the packages to scan, with their subpackages; empty to scan every package
+     * @param filter          the rules excluding classes by name or package
+     * @return the classes found, the duplicates discarded and the classes excluded
+     * @throws IOException if an archive cannot be read
+     */
+    public static ScanResult scan(final List<Path> jars, final Collection<String> packagePrefixes,
+                                  final ModelFilter filter) throws IOException {
+        // Entry name prefixes of the scanned packages
+        List<String> entryPrefixes = packagePrefixes.stream().map(String::trim).filter(prefix -> !prefix.isEmpty())
+                .map(prefix -> (prefix.endsWith(".") ? prefix.substring(0, prefix.length() - 1) : prefix)
+                        .replace('.', '/') + "/")
+                .toList();
+
+        // Read the central directories in parallel, keeping the results in archive order
+        List<List<SourceFile>> found;
+        try {
+            found = jars.parallelStream().map(jar -> {
+                try {
+                    return readJar(jar, entryPrefixes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        Map<String, SourceFile> classes = new TreeMap<>();
+        List<SourceFile> duplicates = new ArrayList<>();
+        List<SourceFile> excluded = new ArrayList<>();
+        for (List<SourceFile> sources : found) {
+            for (SourceFile source : sources) {
+                if (filter.excludesClass(source.className(), source.packageName())) {
+                    excluded.add(source);
+                    continue;
+                }
+                SourceFile previous = classes.putIfAbsent(source.className(), source);
+                if (previous != null) {
+                    duplicates.add(source);
+                    log.warn("Duplicate class name {}: {} in {} ignored, {} in {} kept", source.className(),
+                            source.fullClassName(), source.path(), previous.fullClassName(), previous.path());
+                }
+            }
+        }
+        log.info("{} classes found in {} archives", classes.size(), jars.size());
+        if (!excluded.isEmpty()) {
+            log.info("{} classes excluded by the filter", excluded.size());
+        }
+        return new ScanResult(Collections.unmodifiableMap(classes), Collections.unmodifiableList(duplicates),
+                Collections.unmodifiableList(excluded));
+    }
+
+    /**
+     * Lists the matching classes of an archive, sorted by entry name, from its central directory.
+     */
+    private static List<SourceFile> readJar(final Path jar, final List<String> entryPrefixes) throws IOException {
+        List<SourceFile> sources = new ArrayList<>();
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            zipFile.stream().filter(entry -> isClassEntry(entry, entryPrefixes)).forEach(entry -> {
+                String name = entry.getName();
+                int slash = name.lastIndexOf('/');
+                String className = name.substring(slash + 1, name.length() - CLASS_EXTENSION.length());
+                String packageName = slash < 0 ? "" : name.substring(0, slash).replace('/', '.');
+                sources.add(new SourceFile(className, packageName, jar, entry.getSize(), entry.getCrc()));
+            });
+        }
+        sources.sort((first, second) -> first.fullClassName().compareTo(second.fullClassName()));
+        return sources;
+    }
+
+    /**
+     * Checks whether an entry is a top-level class of the scanned packages.
+     */
+    private static boolean isClassEntry(final ZipEntry entry, final List<String> entryPrefixes) {
+        String name = entry.getName();
+        if (entry.isDirectory() || !name.endsWith(CLASS_EXTENSION) || name.startsWith("META-INF/")
+                || name.indexOf('$') >= 0 || name.endsWith("module-info.class") || name.endsWith("package-info.class")) {
+            return false;
+        }
+        if (entryPrefixes.isEmpty()) {
+            return true;
+        }
+        for (String prefix : entryPrefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,343 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel scanner of Java source trees.
+ * <p>
+ * Directories are walked with NIO as fork-join tasks, one per directory. Only a bounded header
+ * of each {@code .java} file is read to parse its package declaration, skipping a byte order mark,
+ * comments and package annotations. Class names found in more than one package are reported as
+ * duplicates instead of silently overwriting each other: the file with the lowest path wins.
+ * Classes excluded by the {@link ModelFilter} are left out of the result, so they are never loaded.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:40
+ * @since jdk 1.17
+ */
+@Slf4j
+public final class JavaSourceScanner {
+
+    /**
+     * Number of bytes read from the head of each file to find the package declaration.
+     */
+    private static final int HEADER_SIZE = 8 * 1024;
+
+    private static final String JAVA_EXTENSION = ".java";
+
+    private JavaSourceScanner() {
+    }
+
+    /**
+     * Java source file found during a scan.
+     *
+     * @param className   the simple class name, taken from the file name
+     * @param packageName the declared package, empty for the default package
+     * @param path        the path of the source file, or of the archive holding the class
+     * @param size        the size of the file in bytes
+     * @param lastModified the last modification time of the file in milliseconds, or the CRC-32 of
+     *                     the class entry of an archive
+     */
+    public record SourceFile(String className, String packageName, Path path, long size, long lastModified) {
+
+        /**
+         * Returns the fully qualified class name.
+         *
+         * @return the class name prefixed by its package, if any
+         */
+        public String fullClassName() {
+            return packageName.isEmpty() ? className : packageName + "." + className;
+        }
+
+        /**
+         * Checks whether the class was found in an archive, whose entry CRC-32 stands in for the
+         * modification time.
+         *
+         * @return true if the path is the archive holding the class
+         */
+        public boolean inArchive() {
+            return !path.getFileName().toString().endsWith(JAVA_EXTENSION);
+        }
+    }
+
+    /**
+     * Result of a scan.
+     *
+     * @param classes    the source files by simple class name, sorted by class name
+     * @param duplicates the source files discarded because their simple class name was already taken
+     * @param excluded   the source files left out by the filter
+     */
+    public record ScanResult(Map<String, SourceFile> classes, List<SourceFile> duplicates, List<SourceFile> excluded) {
+
+        /**
+         * Returns the map of class names to package names.
+         *
+         * @return a map where each class name is associated with its package name
+         */
+        public Map<String, String> classPackageMap() {
+            Map<String, String> classPackageMap = new LinkedHashMap<>();
+            classes.forEach((className, source) -> classPackageMap.put(className, source.packageName()));
+            return classPackageMap;
+        }
+    }
+
+    /**
+     * Scans the given directory and its subdirectories for Java source files.
+     *
+     * @param dir the root directory to scan
+     * @return the classes found and the duplicates discarded
+     * @throws IOException if an error occurs while reading a file or directory
+     */
+    public static ScanResult scan(final Path dir) throws IOException {
+        return scan(dir, ModelFilter.none());
+    }
+
+    /**
+     * Scans the given directory and its subdirectories for Java source files, leaving out the
+     * classes excluded by the given filter.
+     *
+     * @param dir    the root directory to scan
+     * @param filter the rules excluding classes by name or package
+     * @return the classes found, the duplicates discarded and the classes excluded
+     * @throws IOException if an error occurs while reading a file or directory
+     */
+    public static ScanResult scan(final Path dir, final ModelFilter filter) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            throw new IOException("Not a directory: " + dir);
+        }
+
+        Collection<SourceFile> found = new ConcurrentLinkedQueue<>();
+        try {
+            ForkJoinPool.commonPool().invoke(new DirectoryTask(dir, found));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // Sort by path so the winner of a duplicate class name is deterministic
+        List<SourceFile> sources = new ArrayList<>(found);
+        sources.sort(Comparator.comparing(SourceFile::path));
+
+        Map<String, SourceFile> classes = new TreeMap<>();
+        List<SourceFile> duplicates = new ArrayList<>();
+        List<SourceFile> excluded = new ArrayList<>();
+        for (SourceFile source : sources) {
+            if (filter.excludesClass(source.className(), source.packageName())) {
+                excluded.add(source);
+                continue;
+            }
+            SourceFile previous = classes.putIfAbsent(source.className(), source);
+            if (previous != null) {
+                duplicates.add(source);
+                log.warn("Duplicate class name {}: {} ignored, {} kept",
+                        source.className(), source.fullClassName(), previous.fullClassName());
+            }
+        }
+        if (!excluded.isEmpty()) {
+            log.info("{} classes excluded by the filter", excluded.size());
+        }
+        return new ScanResult(Collections.unmodifiableMap(classes), Collections.unmodifiableList(duplicates),
+                Collections.unmodifiableList(excluded));
+    }
+
+    /**
+     * Fork-join task that scans one directory, forking a task for each subdirectory.
+     */
+    private static final class DirectoryTask extends RecursiveAction {
+
+        private final Path dir;
+
+        private final Collection<SourceFile> found;
+
+        private DirectoryTask(final Path dir, final Collection<SourceFile> found) {
+            this.dir = dir;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            List<DirectoryTask> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+                for (Path path : stream) {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    String fileName = path.getFileName().toString();
+                    if (attributes.isDirectory()) {
+                        subdirectories.add(new DirectoryTask(path, found));
+                    } else if (isSourceFile(path)) {
+                        found.add(readSource(path, attributes));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            invokeAll(subdirectories);
+        }
+    }
+
+    /**
+     * Reads a single Java source file, as a scan does.
+     *
+     * @param path the Java source file
+     * @return the source file, with the package read from its declaration
+     * @throws IOException if an error occurs while reading the file
+     */
+    public static SourceFile readSource(final Path path) throws IOException {
+        return readSource(path, Files.readAttributes(path, BasicFileAttributes.class));
+    }
+
+    private static SourceFile readSource(final Path path, final BasicFileAttributes attributes) throws IOException {
+        String fileName = path.getFileName().toString();
+        String className = fileName.substring(0, fileName.length() - JAVA_EXTENSION.length());
+        return new SourceFile(className, readPackageName(path), path,
+                attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+
+    /**
+     * Checks whether a path names a Java source file declaring a class, skipping
+     * {@code package-info.java} and {@code module-info.java}.
+     *
+     * @param path the path to check
+     * @return true if the path is a class source file
+     */
+    public static boolean isSourceFile(final Path path) {
+        String fileName = path.getFileName().toString();
+        return fileName.endsWith(JAVA_EXTENSION)
+                && !fileName.equals("package-info.java") && !fileName.equals("module-info.java");
+    }
+
+    /**
+     * Reads the package declaration from the header of a Java source file. The whole file is
+     * read only when the header ends before the declaration could be resolved.
+     *
+     * @param path the Java source file
+     * @return the package name, or an empty string if no package is declared
+     * @throws IOException if an error occurs while reading the file
+     */
+    static String readPackageName(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(HEADER_SIZE, channel.size()));
+            while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                // Keep reading until the header buffer is full or the file ends
+            }
+            buffer.flip();
+            String packageName = parsePackageName(decode(buffer), buffer.limit() < channel.size());
+            if (packageName == null) {
+                packageName = parsePackageName(decode(ByteBuffer.wrap(Files.readAllBytes(path))), false);
+            }
+            return packageName;
+        }
+    }
+
+    private static String decode(final ByteBuffer buffer) {
+        // Skip the UTF-8 byte order mark, if present
+        if (buffer.remaining() >= 3 && buffer.get(0) == (byte) 0xEF
+                && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF) {
+            buffer.position(3);
+        }
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+
+    /**
+     * Parses the package declaration at the start of a compilation unit.
+     *
+     * @param source    the head of the source file
+     * @param truncated whether the source is only a part of the file
+     * @return the package name, an empty string if there is none, or null if the truncated
+     * source ends before the declaration could be resolved
+     */
+    static String parsePackageName(final String source, final boolean truncated) {
+        int length = source.length();
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c) || c == '\uFEFF') {
+                i++;
+            } else if (source.startsWith("//", i)) {
+                int end = source.indexOf('\n', i);
+                i = end < 0 ? length : end + 1;
+            } else if (source.startsWith("/*", i)) {
+                int end = source.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (c == '@') {
+                i = skipAnnotation(source, i + 1);
+            } else if (truncated && length - i <= 7
+                    && ("package".startsWith(source.substring(i)) || source.startsWith("/", i) && i + 1 == length)) {
+                // The header ends inside the package keyword or the opening of a comment
+                return null;
+            } else if (source.startsWith("package", i) && i + 7 < length
+                    && !Character.isJavaIdentifierPart(source.charAt(i + 7))) {
+                int end = source.indexOf(';', i);
+                if (end < 0) {
+                    return truncated ? null : "";
+                }
+                return stripComments(source.substring(i + 7, end));
+            } else {
+                // Any other token (import, class...) means the default package
+                return "";
+            }
+        }
+        return truncated ? null : "";
+    }
+
+    /**
+     * Skips an annotation name and its optional parenthesized arguments.
+     */
+    private static int skipAnnotation(final String source, final int start) {
+        int length = source.length();
+        int i = start;
+        while (i < length && (Character.isJavaIdentifierPart(source.charAt(i)) || source.charAt(i) == '.')) {
+            i++;
+        }
+        while (i < length && Character.isWhitespace(source.charAt(i))) {
+            i++;
+        }
+        if (i < length && source.charAt(i) == '(') {
+            int depth = 0;
+            while (i < length) {
+                char c = source.charAt(i);
+                if (c == '"' || c == '\'') {
+                    // Skip string and character literals, which may contain parentheses
+                    i++;
+                    while (i < length && source.charAt(i) != c) {
+                        i += source.charAt(i) == '\\' ? 2 : 1;
+                    }
+                } else if (c == '(') {
+                    depth++;
+                } else if (c == ')' && --depth == 0) {
+                    return i + 1;
+                }
+                i++;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Removes comments and whitespace between the parts of a package name.
+     */
+    private static String stripComments(final String packageName) {
+        return packageName.replaceAll("/\\*.*?\\*/|//[^\\n]*", "").replaceAll("\\s+", "");
+    }
+
+}
@@ -0,0 +1,297 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.representer.Representer;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming writer of Swagger 2.0 and OpenAPI 3 JSON documents.
+ * <p>
+ * The document is written as compact JSON, one definition per line. The YAML definitions of the
+ * prelude are parsed once per document and written as JSON, with their references rewritten for
+ * OpenAPI 3. Only the plain scalars of the YAML 1.2 core schema are typed, so values such as
+ * {@code 2024-10-23}, {@code yes} or {@code 1_000} stay strings.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:37
+ * @since jdk 1.17
+ */
+public class JsonSpecWriter extends AbstractSpecWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private boolean firstDefinition = true;
+
+    private boolean firstProperty;
+
+    private JsonSpecWriter(final Path target, final SpecFormat format) throws IOException {
+        super(target, format);
+    }
+
+    /**
+     * Opens a writer of the given JSON format for the given target file.
+     *
+     * @param target the file where the document will be written on commit
+     * @param format {@link SpecFormat#SWAGGER2_JSON} or {@link SpecFormat#OPENAPI3_JSON}
+     * @return the writer
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static JsonSpecWriter open(final Path target, final SpecFormat format) throws IOException {
+        if (!format.isJson()) {
+            throw new IllegalArgumentException("Not a JSON format: " + format);
+        }
+        return new JsonSpecWriter(target, format);
+    }
+
+    @Override
+    public void writeHeader(final String title, final String description, final String version) throws IOException {
+        writer.write(format.isOpenApi() ? "{\"openapi\":\"3.0.3\"" : "{\"swagger\":\"2.0\"");
+        writer.write(",\"info\":{\"description\":");
+        writer.write(string(description));
+        writer.write(",\"version\":");
+        writer.write(string(version));
+        writer.write(",\"title\":");
+        writer.write(string(title));
+        writer.write(format.isOpenApi() ? "},\"paths\":{},\"components\":{\"schemas\":{" : "},\"paths\":{},\"definitions\":{");
+    }
+
+    /**
+     * Writes the definitions of the prelude, parsed from their YAML rendering.
+     *
+     * @param prelude the index of the file with the rendered definitions
+     * @param skipped the names of the definitions to leave out
+     * @throws IOException if an I/O error occurs while reading or writing
+     */
+    @Override
+    public void writePrelude(final PreludeIndex prelude, final Set<String> skipped) throws IOException {
+        Yaml yaml = new Yaml(new SafeConstructor(new LoaderOptions()), new Representer(new DumperOptions()),
+                new DumperOptions(), new LoaderOptions(), new CoreSchemaResolver());
+        Map<?, ?> document = yaml.load("definitions:\n" + prelude.content(skipped));
+        Object definitions = document != null ? document.get("definitions") : null;
+        if (!(definitions instanceof Map<?, ?> definitionMap)) {
+            return;
+        }
+        for (Map.Entry<?, ?> definition : definitionMap.entrySet()) {
+            this.writeSeparator();
+            writer.write(string(String.valueOf(definition.getKey())));
+            writer.write(':');
+            this.writeValue(null, definition.getValue());
+        }
+    }
+
+    @Override
+    public void beginDefinition(final String name) throws IOException {
+        this.writeSeparator();
+        writer.write(string(name));
+        writer.write(":{\"type\":\"object\",\"properties\":{");
+        firstProperty = true;
+    }
+
+    @Override
+    public void writeProperty(final String name, final Schema schema, final Map<String, String> translations)
+            throws IOException {
+        if (!firstProperty) {
+            writer.write(',');
+        }
+        firstProperty = false;
+        writer.write(string(name));
+        writer.write(':');
+        this.writeSchema(schema, translations);
+    }
+
+    @Override
+    public void endDefinition() throws IOException {
+        writer.write("}}");
+    }
+
+    @Override
+    protected void writeFooter() throws IOException {
+        writer.write(format.isOpenApi() ? "\n}}}\n" : "\n}}\n");
+    }
+
+    /**
+     * Writes the separator before a definition, each definition starting a new line.
+     */
+    private void writeSeparator() throws IOException {
+        writer.write(firstDefinition ? "\n" : ",\n");
+        firstDefinition = false;
+    }
+
+    /**
+     * Writes a schema as a JSON object, nesting the item and value schemas and listing the allowed
+     * values, and the translations of its description.
+     */
+    private void writeSchema(final Schema schema, final Map<String, String> translations) throws IOException {
+        if (schema.isRef()) {
+            writer.write("{\"$ref\":");
+            writer.write(string(format.refPrefix() + schema.ref()));
+            writer.write('}');
+            return;
+        }
+        writer.write("{\"type\":");
+        writer.write(string(schema.type()));
+        if (schema.format() != null) {
+            writer.write(",\"format\":");
+            writer.write(string(schema.format()));
+        }
+        if (schema.items() != null) {
+            writer.write(",\"items\":");
+            this.writeSchema(schema.items(), Map.of());
+        }
+        if (schema.additionalProperties() != null) {
+            writer.write(",\"additionalProperties\":");
+            this.writeSchema(schema.additionalProperties(), Map.of());
+        }
+        if (schema.enumValues() != null) {
+            writer.write(",\"enum\":[");
+            for (int i = 0; i < schema.enumValues().size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(string(schema.enumValues().get(i)));
+            }
+            writer.write(']');
+        }
+        if (schema.description() != null) {
+            writer.write(",\"description\":");
+            writer.write(string(schema.description()));
+        }
+        if (!translations.isEmpty()) {
+            writer.write(',');
+            writer.write(string(TRANSLATIONS));
+            writer.write(":{");
+            boolean first = true;
+            for (Map.Entry<String, String> translation : translations.entrySet()) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writer.write(string(translation.getKey()));
+                writer.write(':');
+                writer.write(string(translation.getValue()));
+            }
+            writer.write('}');
+        }
+        writer.write('}');
+    }
+
+    /**
+     * Writes a value parsed from YAML, rewriting the references for OpenAPI 3.
+     */
+    private void writeValue(final Object key, final Object value) throws IOException {
+        if (value instanceof Map<?, ?> map) {
+            writer.write('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writer.write(string(String.valueOf(entry.getKey())));
+                writer.write(':');
+                this.writeValue(entry.getKey(), entry.getValue());
+            }
+            writer.write('}');
+        } else if (value instanceof Collection<?> collection) {
+            writer.write('[');
+            boolean first = true;
+            for (Object item : collection) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                this.writeValue(null, item);
+            }
+            writer.write(']');
+        } else if (value == null) {
+            writer.write("null");
+        } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long) {
+            writer.write(value.toString());
+        } else if (value instanceof Double number && !number.isNaN() && !number.isInfinite()) {
+            writer.write(value.toString());
+        } else if ("$ref".equals(key)) {
+            writer.write(string(value.toString().replace(SpecFormat.SWAGGER2_JSON.refPrefix(), format.refPrefix())));
+        } else {
+            writer.write(string(value.toString()));
+        }
+    }
+
+    /**
+     * Renders a JSON string, escaping quotes, backslashes, control characters and the line
+     * separators that some JavaScript parsers reject.
+     *
+     * @param value the value to render
+     * @return the JSON string
+     */
+    public static String string(final String value) {
+        StringBuilder builder = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escaped = switch (c) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                case '\b' -> "\\b";
+                case '\f' -> "\\f";
+                default -> c < 0x20 || c == 0x2028 || c == 0x2029
+                        ? "\\u" + HEX[c >> 12 & 0xF] + HEX[c >> 8 & 0xF] + HEX[c >> 4 & 0xF] + HEX[c & 0xF]
+                        : null;
+            };
+            // Copy the value only once a character needs escaping
+            if (escaped != null && builder == null) {
+                builder = new StringBuilder(value.length() + 16).append('"').append(value, 0, i);
+            }
+            if (builder != null) {
+                if (escaped != null) {
+                    builder.append(escaped);
+                } else {
+                    builder.append(c);
+                }
+            }
+        }
+        return builder != null ? builder.append('"').toString() : "\"" + value + "\"";
+    }
+
+    /**
+     * Resolver of the plain scalars of the YAML 1.2 core schema: null, true/false, decimal integers and
+     * floats. The YAML 1.1 types resolved by default (timestamps, yes/no/on/off, octal and sexagesimal
+     * numbers, underscores in numbers) are left as strings, as are the integers with leading zeros.
+     */
+    static class CoreSchemaResolver extends Resolver {
+
+        private static final Pattern CORE_NULL = Pattern.compile("^(?:~|null|Null|NULL)$");
+
+        private static final Pattern CORE_BOOL = Pattern.compile("^(?:true|True|TRUE|false|False|FALSE)$");
+
+        private static final Pattern CORE_INT = Pattern.compile("^[-+]?(?:0|[1-9][0-9]*)$");
+
+        private static final Pattern CORE_FLOAT = Pattern.compile(
+                "^(?:[-+]?(?:\\.[0-9]+|[0-9]+\\.[0-9]*)(?:[eE][-+]?[0-9]+)?|[-+]?[0-9]+[eE][-+]?[0-9]+"
+                        + "|[-+]?\\.(?:inf|Inf|INF)|\\.(?:nan|NaN|NAN))$");
+
+        @Override
+        protected void addImplicitResolvers() {
+            addImplicitResolver(Tag.NULL, CORE_NULL, "~nN");
+            addImplicitResolver(Tag.NULL, EMPTY, null);
+            addImplicitResolver(Tag.BOOL, CORE_BOOL, "tTfF");
+            addImplicitResolver(Tag.INT, CORE_INT, "-+0123456789");
+            addImplicitResolver(Tag.FLOAT, CORE_FLOAT, "-+0123456789.");
+        }
+
+    }
+
+}
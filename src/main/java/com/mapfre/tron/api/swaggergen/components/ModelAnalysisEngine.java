@@ -0,0 +1,339 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import com.mapfre.tron.api.swaggergen.components.JavaSourceScanner.SourceFile;
+import com.mapfre.tron.api.swaggergen.metrics.GenerationMetrics;
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Engine that loads and analyzes the discovered model classes in parallel.
+ * <p>
+ * Each run uses its own {@link ObjectAnalyzer}, so no state is shared between runs, and
+ * fans {@link Class#forName(String)} plus {@link ObjectAnalyzer#analyzeClass(Class)} out over
+ * a dedicated {@link ForkJoinPool}. The results are merged into a map sorted by class name, and
+ * the references are followed from the classes sorted by fully qualified name, so the output does
+ * not depend on the order in which the tasks complete. A class that fails to load or link is
+ * counted as failed and skipped.
+ * <p>
+ * In {@code bytecode} mode the classes are not loaded: their class files are read from the
+ * configured class output directories by a {@link BytecodeAnalyzer}.
+ * <p>
+ * When the models come from JAR archives ({@code app.sources.jars}), the classes are loaded from
+ * them by a class loader created once, or their class files are read from the archives, opened as
+ * zip file systems for the duration of the run.
+ * <p>
+ * Once the given classes are analyzed, the types they reference are followed to their transitive
+ * closure and added to the result, so every reference of the document resolves to a definition.
+ * {@link #classFile(String)} locates the class file of a referenced class, so the incremental mode
+ * can tell whether the class changed since its definition was stored.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:45
+ * @since jdk 1.17
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ModelAnalysisEngine {
+
+    private final GenerationMetrics generationMetrics;
+
+    private final ModelFilter modelFilter;
+
+    /**
+     * Number of threads used to analyze the classes, 0 means one per available core.
+     */
+    @Value("${app.analysis.parallelism:0}")
+    private int parallelism;
+
+    /**
+     * Analysis mode: {@code reflection} loads each class, {@code bytecode} reads its class file.
+     */
+    @Value("${app.analysis.mode:reflection}")
+    private String mode;
+
+    /**
+     * Class output directories read in {@code bytecode} mode.
+     */
+    @Value("${app.analysis.classes-dirs:target/classes}")
+    private List<String> classesDirs;
+
+    /**
+     * JAR archives holding the model classes, empty when they are scanned from the source directory.
+     */
+    @Value("${app.sources.jars:}")
+    private List<String> sourceJars;
+
+    // Class loader over the source archives, created on the first run that needs it
+    private URLClassLoader jarClassLoader;
+
+    /**
+     * Loads and analyzes every class of the given map.
+     *
+     * @param classPackageMap map of class names to their package names
+     * @return the Swagger models (class names and their property definitions) of the given classes and
+     * of the classes they reference, sorted by class name
+     * @throws InterruptedException if the run is interrupted while waiting for the analysis
+     * @throws IOException          if the class file of a referenced class cannot be read
+     */
+    public Map<String, Map<String, Schema>> analyze(final Map<String, String> classPackageMap)
+            throws InterruptedException, IOException {
+        return this.analyze(classPackageMap, new HashMap<>());
+    }
+
+    /**
+     * Loads and analyzes every class of the given map, collecting the classes behind the referenced models.
+     *
+     * @param classPackageMap   map of class names to their package names
+     * @param referencedClasses receives the fully qualified class name of each model added for being referenced,
+     *                          by model name
+     * @return the Swagger models (class names and their property definitions) of the given classes and
+     * of the classes they reference, sorted by class name
+     * @throws InterruptedException if the run is interrupted while waiting for the analysis
+     * @throws IOException          if the class file of a referenced class cannot be read
+     */
+    public Map<String, Map<String, Schema>> analyze(final Map<String, String> classPackageMap,
+                                                    final Map<String, String> referencedClasses)
+            throws InterruptedException, IOException {
+
+        // Source archives opened as file systems, so their class files are read as those of a directory
+        boolean bytecode = "bytecode".equalsIgnoreCase(mode);
+        List<FileSystem> jarFileSystems = new ArrayList<>();
+        try {
+            List<Path> classPath = new ArrayList<>();
+            if (bytecode) {
+                for (String jar : sourceJars) {
+                    FileSystem jarFileSystem = FileSystems.newFileSystem(Paths.get(jar));
+                    jarFileSystems.add(jarFileSystem);
+                    classPath.add(jarFileSystem.getRootDirectories().iterator().next());
+                }
+                classesDirs.stream().map(Paths::get).forEach(classPath::add);
+            }
+            return this.analyze(classPackageMap, bytecode ? classPath : null, referencedClasses);
+        } finally {
+            for (FileSystem jarFileSystem : jarFileSystems) {
+                jarFileSystem.close();
+            }
+        }
+    }
+
+    /**
+     * Loads and analyzes every class of the given map, reading the class files from the given
+     * class path in {@code bytecode} mode.
+     */
+    private Map<String, Map<String, Schema>> analyze(final Map<String, String> classPackageMap,
+                                                     final List<Path> classPath,
+                                                     final Map<String, String> referencedClasses)
+            throws InterruptedException, IOException {
+
+        // Per-run analyzers, shared by the worker threads of this run only
+        ObjectAnalyzer objectAnalyzer = new ObjectAnalyzer(modelFilter);
+        BytecodeAnalyzer bytecodeAnalyzer = classPath != null ? new BytecodeAnalyzer(classPath, modelFilter) : null;
+        ClassLoader classLoader = this.classLoader();
+
+        // Classes analyzed successfully, whose references are followed afterwards
+        Collection<Class<?>> loadedClasses = new ConcurrentLinkedQueue<>();
+        Collection<String> analyzedClassNames = new ConcurrentLinkedQueue<>();
+
+        Map<String, Map<String, Schema>> swaggerModels;
+        ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        try {
+            swaggerModels = pool.submit(() -> classPackageMap.entrySet().parallelStream()
+                            .map(entry -> analyze(objectAnalyzer, bytecodeAnalyzer, classLoader, entry.getKey(),
+                                    entry.getValue(), loadedClasses, analyzedClassNames))
+                            .filter(entry -> entry != null && entry.getValue() != null)
+                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
+                                    (first, second) -> first, TreeMap::new)))
+                    .get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Class analysis failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        // Follow the referenced types, each one analyzed once, so no reference is left dangling; the classes
+        // are sorted, so a simple name shared by two referenced classes always goes to the same one
+        Map<String, Map<String, Schema>> referencedModels = bytecodeAnalyzer != null
+                ? bytecodeAnalyzer.analyzeReferencedClasses(analyzedClassNames.stream().sorted().toList(),
+                        referencedClasses)
+                : objectAnalyzer.analyzeReferencedClasses(loadedClasses.stream()
+                        .sorted(Comparator.comparing(Class::getName)).toList(), referencedClasses);
+        referencedModels.forEach(swaggerModels::putIfAbsent);
+        generationMetrics.count(GenerationMetrics.CLASSES_REFERENCED, referencedModels.size());
+        log.info("{} classes analyzed, {} referenced classes added", analyzedClassNames.size(), referencedModels.size());
+        return swaggerModels;
+    }
+
+    /**
+     * Loads a single class and analyzes its structure, or reads its class file in {@code bytecode} mode.
+     *
+     * @return the class name and its definition, with a null definition if the class could not be loaded,
+     * or null if the class is excluded by an annotation
+     */
+    private Map.Entry<String, Map<String, Schema>> analyze(final ObjectAnalyzer objectAnalyzer,
+                                                           final BytecodeAnalyzer bytecodeAnalyzer,
+                                                           final ClassLoader classLoader,
+                                                           final String className, final String packageName,
+                                                           final Collection<Class<?>> loadedClasses,
+                                                           final Collection<String> analyzedClassNames) {
+        try {
+            // Construct the full class name (including package if present)
+            String fullClassName = packageName.isEmpty() ? className : packageName + "." + className;
+
+            Map<String, Schema> definition;
+            if (bytecodeAnalyzer != null) {
+                // Read the class file without loading the class
+                if (bytecodeAnalyzer.isExcluded(fullClassName)) {
+                    return null;
+                }
+                definition = bytecodeAnalyzer.analyzeClass(fullClassName);
+            } else {
+                // Load the class dynamically using reflection
+                Class<?> clazz = Class.forName(fullClassName, true, classLoader);
+                if (objectAnalyzer.isExcluded(clazz)) {
+                    return null;
+                }
+
+                // Analyze the class structure to generate its Swagger model definition
+                definition = objectAnalyzer.analyzeClass(clazz);
+                loadedClasses.add(clazz);
+            }
+            analyzedClassNames.add(fullClassName);
+
+            generationMetrics.count(GenerationMetrics.CLASSES_LOADED, 1);
+            generationMetrics.count(GenerationMetrics.FIELDS_ANALYZED, definition.size());
+            return new AbstractMap.SimpleEntry<>(className, definition);
+        } catch (ClassNotFoundException | IOException | LinkageError e) {
+            // A missing, unreadable or unlinkable class only fails itself
+            log.error("Class not analyzed: {}", className, e);
+            generationMetrics.count(GenerationMetrics.CLASSES_FAILED, 1);
+            return new AbstractMap.SimpleEntry<>(className, null);
+        }
+    }
+
+    /**
+     * Locates the class file of a class, where the analysis of the current mode would read it: in
+     * the source archives or the class output directories in {@code bytecode} mode, through the
+     * class loader of the models otherwise.
+     *
+     * @param fullClassName the fully qualified class name
+     * @return the class file, with the CRC-32 of its entry as modification time when it is held by an
+     * archive, or null if it is not found in a directory or a local archive
+     * @throws IOException if the class file or its archive cannot be read
+     */
+    public SourceFile classFile(final String fullClassName) throws IOException {
+        String resource = fullClassName.replace('.', '/') + ".class";
+        int dot = fullClassName.lastIndexOf('.');
+        String className = fullClassName.substring(dot + 1);
+        String packageName = dot < 0 ? "" : fullClassName.substring(0, dot);
+
+        if ("bytecode".equalsIgnoreCase(mode)) {
+            for (String jar : sourceJars) {
+                try (ZipFile zipFile = new ZipFile(jar)) {
+                    ZipEntry entry = zipFile.getEntry(resource);
+                    if (entry != null) {
+                        return new SourceFile(className, packageName, Paths.get(jar), entry.getSize(), entry.getCrc());
+                    }
+                }
+            }
+            for (String classesDir : classesDirs) {
+                Path path = Paths.get(classesDir).resolve(resource);
+                if (Files.isRegularFile(path)) {
+                    return new SourceFile(className, packageName, path, Files.size(path),
+                            Files.getLastModifiedTime(path).toMillis());
+                }
+            }
+            return null;
+        }
+
+        URL url = this.classLoader().getResource(resource);
+        try {
+            if (url == null) {
+                return null;
+            } else if ("file".equals(url.getProtocol())) {
+                Path path = Paths.get(url.toURI());
+                return new SourceFile(className, packageName, path, Files.size(path),
+                        Files.getLastModifiedTime(path).toMillis());
+            } else if ("jar".equals(url.getProtocol())) {
+                JarURLConnection connection = (JarURLConnection) url.openConnection();
+                if (!"file".equals(connection.getJarFileURL().getProtocol())) {
+                    return null;
+                }
+                // Not cached, so the archive is closed here and not held open by the class loader's handler
+                connection.setUseCaches(false);
+                try (JarFile jarFile = connection.getJarFile()) {
+                    ZipEntry entry = jarFile.getEntry(connection.getEntryName());
+                    return entry == null ? null : new SourceFile(className, packageName,
+                            Paths.get(connection.getJarFileURL().toURI()), entry.getSize(), entry.getCrc());
+                }
+            }
+            return null;
+        } catch (URISyntaxException e) {
+            log.warn("Class file not located: {}", url, e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the class loader of the models: the application one, or a loader over the source
+     * archives, created once and kept for the next runs.
+     */
+    private synchronized ClassLoader classLoader() throws MalformedURLException {
+        if (sourceJars.isEmpty()) {
+            return this.getClass().getClassLoader();
+        }
+        if (jarClassLoader == null) {
+            URL[] urls = new URL[sourceJars.size()];
+            for (int i = 0; i < urls.length; i++) {
+                urls[i] = Paths.get(sourceJars.get(i)).toUri().toURL();
+            }
+            jarClassLoader = new URLClassLoader(urls, this.getClass().getClassLoader());
+        }
+        return jarClassLoader;
+    }
+
+    /**
+     * Closes the class loader over the source archives, if one was created.
+     *
+     * @throws IOException if an archive cannot be closed
+     */
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (jarClassLoader != null) {
+            jarClassLoader.close();
+            jarClassLoader = null;
+        }
+    }
+
+}
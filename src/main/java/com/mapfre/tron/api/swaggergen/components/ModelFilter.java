@@ -0,0 +1,232 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled rule set deciding which classes and fields are left out of the generated document.
+ * <p>
+ * The rules are compiled once: plain names go to hash sets, globs ({@code *} and {@code ?}) are
+ * joined into a single regular expression, and package prefixes are kept as a short array.
+ * Class rules are applied by the scan, so excluded classes are never loaded or analyzed; field
+ * rules are applied by the analyzers, so excluded fields are never described.
+ * <ul>
+ *     <li>class names: globs on the simple class name</li>
+ *     <li>packages: package prefixes, matching the package and its subpackages</li>
+ *     <li>annotations: simple or fully qualified names of class or field annotations</li>
+ *     <li>fields: globs on the field name</li>
+ *     <li>modifiers: {@code static} and {@code transient} fields</li>
+ * </ul>
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:18
+ * @since jdk 1.17
+ */
+public final class ModelFilter {
+
+    private static final ModelFilter NONE = new ModelFilter(NameMatcher.compile(List.of()), new String[0],
+            Set.of(), NameMatcher.compile(List.of()), 0);
+
+    private final NameMatcher classNames;
+
+    private final String[] packagePrefixes;
+
+    private final Set<String> annotations;
+
+    private final NameMatcher fieldNames;
+
+    /**
+     * Modifiers excluding a field, as {@link Modifier} flags (the same values as the class file access flags).
+     */
+    private final int fieldModifiers;
+
+    private ModelFilter(final NameMatcher classNames, final String[] packagePrefixes, final Set<String> annotations,
+                        final NameMatcher fieldNames, final int fieldModifiers) {
+        this.classNames = classNames;
+        this.packagePrefixes = packagePrefixes;
+        this.annotations = annotations;
+        this.fieldNames = fieldNames;
+        this.fieldModifiers = fieldModifiers;
+    }
+
+    /**
+     * Returns a filter that excludes nothing.
+     *
+     * @return the empty filter
+     */
+    public static ModelFilter none() {
+        return NONE;
+    }
+
+    /**
+     * Compiles a rule set.
+     *
+     * @param classGlobs      globs on the simple class names to exclude
+     * @param packagePrefixes package prefixes to exclude
+     * @param annotations     simple or fully qualified names of the annotations excluding a class or field
+     * @param fieldGlobs      globs on the field names to exclude
+     * @param modifiers       field modifiers to exclude: {@code static}, {@code transient}
+     * @return the compiled filter
+     */
+    public static ModelFilter compile(final Collection<String> classGlobs, final Collection<String> packagePrefixes,
+                                      final Collection<String> annotations, final Collection<String> fieldGlobs,
+                                      final Collection<String> modifiers) {
+        int fieldModifiers = 0;
+        for (String modifier : clean(modifiers)) {
+            fieldModifiers |= switch (modifier.toLowerCase(Locale.ROOT)) {
+                case "static" -> Modifier.STATIC;
+                case "transient" -> Modifier.TRANSIENT;
+                default -> throw new IllegalArgumentException("Unsupported field modifier: " + modifier);
+            };
+        }
+        return new ModelFilter(NameMatcher.compile(clean(classGlobs)),
+                clean(packagePrefixes).stream().map(prefix -> prefix.endsWith(".") ? prefix : prefix + ".")
+                        .toArray(String[]::new),
+                Set.copyOf(clean(annotations)), NameMatcher.compile(clean(fieldGlobs)), fieldModifiers);
+    }
+
+    private static List<String> clean(final Collection<String> values) {
+        return values.stream().map(String::trim).filter(value -> !value.isEmpty()).distinct().toList();
+    }
+
+    /**
+     * Checks whether a class is excluded by its name or package.
+     *
+     * @param className   the simple class name
+     * @param packageName the package name, empty for the default package
+     * @return true if the class is excluded
+     */
+    public boolean excludesClass(final String className, final String packageName) {
+        if (classNames.matches(className)) {
+            return true;
+        }
+        String qualifiedPackage = packageName + ".";
+        for (String prefix : packagePrefixes) {
+            if (qualifiedPackage.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a model is excluded by its name, when its package is not known.
+     *
+     * @param modelName the model name
+     * @return true if the model is excluded
+     */
+    public boolean excludesModel(final String modelName) {
+        return classNames.matches(modelName);
+    }
+
+    /**
+     * Checks whether any of the given annotations excludes the annotated class or field.
+     *
+     * @param annotationNames the fully qualified names of the annotations
+     * @return true if an annotation is excluded
+     */
+    public boolean excludesAnnotated(final Collection<String> annotationNames) {
+        if (annotations.isEmpty()) {
+            return false;
+        }
+        for (String annotationName : annotationNames) {
+            String simpleName = annotationName.substring(Math.max(annotationName.lastIndexOf('.'),
+                    annotationName.lastIndexOf('$')) + 1);
+            if (annotations.contains(annotationName) || annotations.contains(simpleName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a field is excluded by its name or modifiers.
+     *
+     * @param fieldName the field name
+     * @param modifiers the field modifiers, as {@link Modifier} flags or class file access flags
+     * @return true if the field is excluded
+     */
+    public boolean excludesField(final String fieldName, final int modifiers) {
+        return (modifiers & fieldModifiers) != 0 || fieldNames.matches(fieldName);
+    }
+
+    /**
+     * Checks whether a property is excluded by its name, when its modifiers are not known.
+     *
+     * @param propertyName the property name
+     * @return true if the property is excluded
+     */
+    public boolean excludesProperty(final String propertyName) {
+        return fieldNames.matches(propertyName);
+    }
+
+    /**
+     * Checks whether the filter has annotation rules, which need the class to be read.
+     *
+     * @return true if classes or fields may be excluded by their annotations
+     */
+    public boolean hasAnnotationRules() {
+        return !annotations.isEmpty();
+    }
+
+    /**
+     * Returns a canonical form of the rules, the same for equal rule sets whatever the order of
+     * their plain names, to tell whether definitions were analyzed under the same rules.
+     *
+     * @return the rules as a string
+     */
+    public String fingerprint() {
+        return "classes=" + new TreeSet<>(classNames.names()) + " " + classNames.globs()
+                + ";packages=" + new TreeSet<>(Arrays.asList(packagePrefixes)) + ";annotations=" + new TreeSet<>(annotations)
+                + ";fields=" + new TreeSet<>(fieldNames.names()) + " " + fieldNames.globs()
+                + ";modifiers=" + fieldModifiers;
+    }
+
+    /**
+     * Matcher of names against plain names and globs.
+     */
+    private record NameMatcher(Set<String> names, Pattern globs) {
+
+        static NameMatcher compile(final List<String> patterns) {
+            Set<String> names = new HashSet<>();
+            StringBuilder regex = new StringBuilder();
+            for (String pattern : patterns) {
+                if (pattern.indexOf('*') < 0 && pattern.indexOf('?') < 0) {
+                    names.add(pattern);
+                    continue;
+                }
+                if (regex.length() > 0) {
+                    regex.append('|');
+                }
+                for (String part : pattern.split("(?=[*?])|(?<=[*?])")) {
+                    regex.append(switch (part) {
+                        case "*" -> ".*";
+                        case "?" -> ".";
+                        default -> Pattern.quote(part);
+                    });
+                }
+            }
+            return new NameMatcher(Set.copyOf(names), regex.length() > 0 ? Pattern.compile(regex.toString()) : null);
+        }
+
+        boolean matches(final String name) {
+            return names.contains(name) || (globs != null && globs.matcher(name).matches());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ModelFilter[classes=" + classNames.names() + (classNames.globs() != null ? " " + classNames.globs() : "")
+                + ", packages=" + Arrays.toString(packagePrefixes) + ", annotations=" + annotations
+                + ", fields=" + fieldNames.names() + (fieldNames.globs() != null ? " " + fieldNames.globs() : "")
+                + ", modifiers=" + Modifier.toString(fieldModifiers) + "]";
+    }
+
+}
@@ -0,0 +1,393 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import com.mapfre.tron.api.swaggergen.components.JavaSourceScanner.SourceFile;
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Manifest of the classes analyzed in a previous run, used by the incremental mode.
+ * <p>
+ * For each class the manifest keeps the fingerprint of its source file (size, last modification
+ * time and SHA-256 content hash) together with its analyzed definition. A class whose source is
+ * unchanged reuses the stored definition and is neither loaded nor analyzed again. Size and time
+ * are checked first; the content is only hashed when they differ, so touching a file without
+ * changing it does not invalidate its definition. Classes found in an archive are fingerprinted by
+ * the size and CRC-32 of their entry alone, so the archive is never hashed.
+ * <p>
+ * The definitions of the referenced classes without a source, such as classes of a dependency,
+ * are kept by definition name with the fingerprint of their class file (size and modification
+ * time, or size and CRC-32 of an archive entry), so the classes referencing them are only analyzed
+ * again when one of those class files changes.
+ * <p>
+ * The header holds a hash of the configuration the definitions were analyzed with (analysis mode
+ * and exclusion rules): a manifest written under another configuration is thrown away, so changing
+ * the rules analyzes every class again.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:45
+ * @since jdk 1.17
+ */
+@Slf4j
+public class ModelManifest {
+
+    private static final int MAGIC = 0x53574D46;
+
+    /**
+     * Layout version, to be increased whenever the format of the stored definitions changes.
+     */
+    private static final int VERSION = 6;
+
+    /**
+     * Content hash of the archive entries, whose CRC-32 is already part of the fingerprint.
+     */
+    private static final byte[] NO_HASH = new byte[0];
+
+    private final byte[] configurationHash;
+
+    private final Map<String, Entry> entries;
+
+    // Referenced classes without a source, by definition name
+    private final Map<String, Entry> references;
+
+    private ModelManifest(final byte[] configurationHash, final Map<String, Entry> entries,
+                          final Map<String, Entry> references) {
+        this.configurationHash = configurationHash;
+        this.entries = entries;
+        this.references = references;
+    }
+
+    /**
+     * Fingerprint of a source file.
+     *
+     * @param size         the size of the file in bytes
+     * @param lastModified the last modification time in milliseconds, or the CRC-32 of an archive entry
+     * @param hash         the SHA-256 hash of the file content, empty for an archive entry
+     */
+    record Fingerprint(long size, long lastModified, byte[] hash) {
+    }
+
+    /**
+     * Manifest entry: fully qualified class name, source fingerprint and analyzed definition.
+     */
+    private record Entry(String fullClassName, Fingerprint fingerprint, Map<String, Schema> definition) {
+    }
+
+    /**
+     * Creates an empty manifest.
+     *
+     * @param configuration the configuration the definitions are analyzed with
+     * @return a manifest without entries
+     */
+    public static ModelManifest empty(final String configuration) {
+        return new ModelManifest(sha256(configuration.getBytes(StandardCharsets.UTF_8)), new HashMap<>(),
+                new HashMap<>());
+    }
+
+    /**
+     * Loads the manifest from the given file. A missing, unreadable or outdated manifest, or one
+     * written under another configuration, results in an empty one, so every class is analyzed again.
+     *
+     * @param path          the manifest file
+     * @param configuration the configuration the definitions are analyzed with
+     * @return the manifest read from the file
+     */
+    public static ModelManifest load(final Path path, final String configuration) {
+        ModelManifest empty = empty(configuration);
+        if (!Files.isRegularFile(path)) {
+            log.info("Model manifest not found: {}", path);
+            return empty;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                log.warn("Model manifest ignored, unknown format: {}", path);
+                return empty;
+            }
+            byte[] configurationHash = new byte[in.readUnsignedByte()];
+            in.readFully(configurationHash);
+            if (!Arrays.equals(configurationHash, empty.configurationHash)) {
+                log.info("Model manifest ignored, the analysis configuration changed: {}", path);
+                return empty;
+            }
+            Map<String, Entry> entries = readEntries(in);
+            Map<String, Entry> references = readEntries(in);
+            log.info("Model manifest loaded: {} classes, {} referenced classes", entries.size(), references.size());
+            return new ModelManifest(empty.configurationHash, entries, references);
+        } catch (IOException e) {
+            log.warn("Model manifest ignored, unreadable: {}", path, e);
+            return empty;
+        }
+    }
+
+    /**
+     * Returns the stored definition of a class if its source file is unchanged.
+     *
+     * @param source the source file of the class
+     * @return the stored definition, or null if the class is new or its source has changed
+     * @throws IOException if an error occurs while hashing the source file
+     */
+    public Map<String, Schema> findUnchanged(final SourceFile source) throws IOException {
+        Entry entry = entries.get(source.className());
+        if (entry == null || !entry.fullClassName().equals(source.fullClassName())) {
+            return null;
+        }
+        Fingerprint fingerprint = entry.fingerprint();
+        if (fingerprint.size() == source.size() && fingerprint.lastModified() == source.lastModified()) {
+            return entry.definition();
+        }
+        // Size or time changed: the content decides, except for an archive entry whose CRC-32 changed
+        if (!source.inArchive() && fingerprint.size() == source.size()
+                && Arrays.equals(fingerprint.hash(), hash(source.path()))) {
+            entries.put(source.className(), new Entry(entry.fullClassName(),
+                    new Fingerprint(source.size(), source.lastModified(), fingerprint.hash()), entry.definition()));
+            return entry.definition();
+        }
+        return null;
+    }
+
+    /**
+     * Stores the analyzed definition of a class together with the fingerprint of its source.
+     *
+     * @param source     the source file of the class
+     * @param definition the analyzed definition
+     * @throws IOException if an error occurs while hashing the source file
+     */
+    public void put(final SourceFile source, final Map<String, Schema> definition) throws IOException {
+        entries.put(source.className(), new Entry(source.fullClassName(),
+                new Fingerprint(source.size(), source.lastModified(),
+                        source.inArchive() ? NO_HASH : hash(source.path())), definition));
+    }
+
+    /**
+     * Keeps only the entries of the given classes, dropping the classes whose source was removed.
+     *
+     * @param classNames the class names found in the current scan
+     */
+    public void retainAll(final Collection<String> classNames) {
+        entries.keySet().retainAll(classNames);
+    }
+
+    /**
+     * Returns the referenced classes without a source stored in the manifest.
+     *
+     * @return the fully qualified class names, by definition name
+     */
+    public Map<String, String> referencedClasses() {
+        Map<String, String> referencedClasses = new HashMap<>(references.size() * 2);
+        references.forEach((name, entry) -> referencedClasses.put(name, entry.fullClassName()));
+        return referencedClasses;
+    }
+
+    /**
+     * Returns the stored definition of a referenced class without a source if its class file is unchanged.
+     *
+     * @param name      the definition name
+     * @param classFile the class file of the class, null if it is no longer found
+     * @return the stored definition, or null if the class is new, gone or its class file has changed
+     */
+    public Map<String, Schema> findUnchangedReference(final String name, final SourceFile classFile) {
+        Entry entry = references.get(name);
+        if (entry == null || classFile == null || !entry.fullClassName().equals(classFile.fullClassName())) {
+            return null;
+        }
+        Fingerprint fingerprint = entry.fingerprint();
+        return fingerprint.size() == classFile.size() && fingerprint.lastModified() == classFile.lastModified()
+                ? entry.definition() : null;
+    }
+
+    /**
+     * Stores the definition of a referenced class without a source together with the fingerprint of its class file.
+     *
+     * @param name       the definition name
+     * @param classFile  the class file of the class
+     * @param definition the analyzed definition
+     */
+    public void putReference(final String name, final SourceFile classFile, final Map<String, Schema> definition) {
+        references.put(name, new Entry(classFile.fullClassName(),
+                new Fingerprint(classFile.size(), classFile.lastModified(), NO_HASH), definition));
+    }
+
+    /**
+     * Keeps only the referenced classes with the given definition names.
+     *
+     * @param names the definition names still referenced
+     */
+    public void retainReferences(final Collection<String> names) {
+        references.keySet().retainAll(names);
+    }
+
+    /**
+     * Writes the manifest to a temporary file and atomically replaces the given file.
+     *
+     * @param path the manifest file
+     * @throws IOException if an I/O error occurs while writing the manifest
+     */
+    public void save(final Path path) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path temp = FileUtils.createTempFile(target);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeByte(configurationHash.length);
+            out.write(configurationHash);
+            writeEntries(out, entries);
+            writeEntries(out, references);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Model manifest saved: {} classes, {} referenced classes in {}", entries.size(), references.size(),
+                target);
+    }
+
+    /**
+     * Writes a section of entries: their number, followed by each key, class name, fingerprint and definition.
+     */
+    private static void writeEntries(final DataOutputStream out, final Map<String, Entry> entries) throws IOException {
+        out.writeInt(entries.size());
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            Fingerprint fingerprint = entry.getValue().fingerprint();
+            out.writeUTF(entry.getKey());
+            out.writeUTF(entry.getValue().fullClassName());
+            out.writeLong(fingerprint.size());
+            out.writeLong(fingerprint.lastModified());
+            out.writeByte(fingerprint.hash().length);
+            out.write(fingerprint.hash());
+            writeDefinition(out, entry.getValue().definition());
+        }
+    }
+
+    /**
+     * Reads a section written by {@link #writeEntries(DataOutputStream, Map)}.
+     */
+    private static Map<String, Entry> readEntries(final DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Map<String, Entry> entries = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String key = in.readUTF();
+            String fullClassName = in.readUTF();
+            long size = in.readLong();
+            long lastModified = in.readLong();
+            byte[] hash = new byte[in.readUnsignedByte()];
+            in.readFully(hash);
+            entries.put(key, new Entry(fullClassName, new Fingerprint(size, lastModified, hash), readDefinition(in)));
+        }
+        return entries;
+    }
+
+    /**
+     * Writes a definition: the number of properties, followed by each property name and schema.
+     */
+    private static void writeDefinition(final DataOutputStream out, final Map<String, Schema> definition)
+            throws IOException {
+        out.writeInt(definition.size());
+        for (Map.Entry<String, Schema> property : definition.entrySet()) {
+            out.writeUTF(property.getKey());
+            writeSchema(out, property.getValue());
+        }
+    }
+
+    /**
+     * Reads a definition written by {@link #writeDefinition(DataOutputStream, Map)}.
+     */
+    private static Map<String, Schema> readDefinition(final DataInputStream in) throws IOException {
+        int properties = in.readInt();
+        Map<String, Schema> definition = new LinkedHashMap<>(properties * 2);
+        for (int i = 0; i < properties; i++) {
+            definition.put(in.readUTF(), readSchema(in));
+        }
+        return definition;
+    }
+
+    /**
+     * Writes a schema: a flag byte telling which parts are present, followed by those parts.
+     */
+    private static void writeSchema(final DataOutputStream out, final Schema schema) throws IOException {
+        int flags = (schema.type() != null ? 1 : 0) | (schema.format() != null ? 2 : 0) | (schema.ref() != null ? 4 : 0)
+                | (schema.items() != null ? 8 : 0) | (schema.additionalProperties() != null ? 16 : 0)
+                | (schema.description() != null ? 32 : 0) | (schema.enumValues() != null ? 64 : 0);
+        out.writeByte(flags);
+        if (schema.type() != null) {
+            out.writeUTF(schema.type());
+        }
+        if (schema.format() != null) {
+            out.writeUTF(schema.format());
+        }
+        if (schema.ref() != null) {
+            out.writeUTF(schema.ref());
+        }
+        if (schema.items() != null) {
+            writeSchema(out, schema.items());
+        }
+        if (schema.additionalProperties() != null) {
+            writeSchema(out, schema.additionalProperties());
+        }
+        if (schema.enumValues() != null) {
+            out.writeInt(schema.enumValues().size());
+            for (String value : schema.enumValues()) {
+                out.writeUTF(value);
+            }
+        }
+        if (schema.description() != null) {
+            out.writeUTF(schema.description());
+        }
+    }
+
+    /**
+     * Reads a schema written by {@link #writeSchema(DataOutputStream, Schema)}, reusing the shared
+     * constants for the simple types.
+     */
+    private static Schema readSchema(final DataInputStream in) throws IOException {
+        int flags = in.readUnsignedByte();
+        String type = (flags & 1) != 0 ? in.readUTF() : null;
+        String format = (flags & 2) != 0 ? in.readUTF() : null;
+        String ref = (flags & 4) != 0 ? in.readUTF() : null;
+        Schema items = (flags & 8) != 0 ? readSchema(in) : null;
+        Schema additionalProperties = (flags & 16) != 0 ? readSchema(in) : null;
+        List<String> enumValues = null;
+        if ((flags & 64) != 0) {
+            String[] values = new String[in.readInt()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = in.readUTF();
+            }
+            enumValues = List.of(values);
+        }
+        String description = (flags & 32) != 0 ? in.readUTF() : null;
+        if (type != null && ref == null && items == null && additionalProperties == null && enumValues == null
+                && description == null) {
+            return Schema.simple(type, format);
+        }
+        return new Schema(type, format, ref, items, additionalProperties, enumValues, description);
+    }
+
+    /**
+     * Computes the SHA-256 hash of a file content.
+     */
+    private static byte[] hash(final Path path) throws IOException {
+        return sha256(Files.readAllBytes(path));
+    }
+
+    private static byte[] sha256(final byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
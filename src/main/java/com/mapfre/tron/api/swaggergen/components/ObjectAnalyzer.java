@@ -1,96 +1,258 @@
 package com.mapfre.tron.api.swaggergen.components;
 
+import com.mapfre.tron.api.swaggergen.model.Schema;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.*;
 
 /**
  * Utility class for analyzing Java classes and generating Swagger model definitions.
  * This class uses reflection to analyze fields of a given class and generate a
- * corresponding Swagger model in the form of a Map<String, String>.
+ * corresponding Swagger model in the form of a Map<String, Schema>.
  * <p>
  * The generated model includes field types and references to other Swagger definitions
- * when the field is an object or a list of objects.
+ * when the field is an object, or a list or array of objects. Enums are written inline with their
+ * constants and interfaces as free-form objects, as they have no properties of their own.
+ * {@link #analyzeReferencedClasses(Collection)} follows the references to their transitive
+ * closure, so every referenced type gets a definition of its own.
  * <p>
- * Recursion prevention is implemented using a set of processed classes to avoid
- * infinite loops when classes contain references to themselves or each other.
+ * Each class is analyzed once: its definition and references are memoized in a {@link ClassValue},
+ * so classes shared by many models, or referencing each other, are not walked again. Fields
+ * excluded by the {@link ModelFilter} are left out of the definitions, and excluded classes
+ * are written as free-form objects instead of being referenced.
+ * <p>
+ * Instances are thread-safe and hold the state of a single run, so a new analyzer
+ * should be created for each generation.
  *
  * @author architecture - rperezv
- * @version 23/10/2024 - 09:51
+ * @version 16/10/2026 - 22:45
  * @since jdk 1.17
  */
 @Slf4j
 public class ObjectAnalyzer {
 
-    // Set to track already processed classes and prevent infinite recursion
-    private static final Set<Class<?>> processedClasses = new HashSet<>();
+    /**
+     * Analysis of a class: its definition, the classes it references by definition name, and whether
+     * the class is excluded by the filter.
+     */
+    private record Analysis(Map<String, Schema> definition, Map<String, Class<?>> references, boolean excluded) {
+    }
+
+    private final ModelFilter filter;
+
+    // Analysis of each class, computed once per class and scoped to this run
+    private final ClassValue<Analysis> analyses = new ClassValue<>() {
+        @Override
+        protected Analysis computeValue(Class<?> type) {
+            return analyze(type);
+        }
+    };
+
+    /**
+     * Creates an analyzer that excludes nothing.
+     */
+    public ObjectAnalyzer() {
+        this(ModelFilter.none());
+    }
+
+    /**
+     * Creates an analyzer that leaves out the classes and fields excluded by the given filter.
+     *
+     * @param filter the exclusion rules
+     */
+    public ObjectAnalyzer(ModelFilter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Checks whether a class is excluded by its name, package or annotations.
+     *
+     * @param clazz the class to check
+     * @return true if the class is excluded
+     */
+    public boolean isExcluded(Class<?> clazz) {
+        return analyses.get(clazz).excluded();
+    }
 
     /**
      * Analyzes the structure of the given class and generates a corresponding
-     * Swagger model definition as a map of field names to field types or references.
+     * Swagger model definition as a map of field names to their schemas.
      *
      * @param clazz the class to be analyzed
      * @return a map representing the Swagger model for the given class
      */
-    public static Map<String, String> analyzeClass(Class<?> clazz) {
+    public Map<String, Schema> analyzeClass(Class<?> clazz) {
+        return analyses.get(clazz).definition();
+    }
+
+    /**
+     * Follows the references of the given classes to their transitive closure, analyzing each
+     * referenced class once. Lists and arrays are followed to their element type. When two referenced classes
+     * share a simple name, the first one reached keeps the definition and the collision is reported.
+     *
+     * @param classes the classes whose references are followed, in a stable order
+     * @return the definitions of the referenced classes that are not part of the given ones,
+     * by the name used in their references
+     */
+    public Map<String, Map<String, Schema>> analyzeReferencedClasses(Collection<Class<?>> classes) {
+        return this.analyzeReferencedClasses(classes, new HashMap<>());
+    }
 
-        // Avoids infinite recursion by checking if the class has already been processed
-        if (processedClasses.contains(clazz)) {
-            Map<String, String> processSwaggerModel = new HashMap<>();
-            processSwaggerModel.put(clazz.getName(), "\n        $ref: '#/definitions/" + clazz.getSimpleName());
-            return processSwaggerModel;
+    /**
+     * Follows the references of the given classes as {@link #analyzeReferencedClasses(Collection)} does,
+     * also collecting the fully qualified name of the class behind each returned definition.
+     *
+     * @param classes the classes whose references are followed, in a stable order
+     * @param origins receives the fully qualified class name of each returned definition, by definition name
+     * @return the definitions of the referenced classes that are not part of the given ones,
+     * by the name used in their references
+     */
+    public Map<String, Map<String, Schema>> analyzeReferencedClasses(Collection<Class<?>> classes,
+                                                                     Map<String, String> origins) {
+        Map<String, Map<String, Schema>> referenced = new HashMap<>();
+        Map<String, Class<?>> owners = new HashMap<>();
+        Set<Class<?>> visited = new HashSet<>(classes);
+
+        // Worklist of the references still to be analyzed
+        Deque<Map.Entry<String, Class<?>>> pending = new ArrayDeque<>();
+        for (Class<?> clazz : classes) {
+            pending.addAll(analyses.get(clazz).references().entrySet());
+        }
+        while (!pending.isEmpty()) {
+            Map.Entry<String, Class<?>> reference = pending.poll();
+            if (visited.add(reference.getValue()) && !analyses.get(reference.getValue()).excluded()) {
+                Analysis analysis = analyses.get(reference.getValue());
+                Class<?> owner = owners.putIfAbsent(reference.getKey(), reference.getValue());
+                if (owner == null) {
+                    referenced.put(reference.getKey(), analysis.definition());
+                    origins.put(reference.getKey(), reference.getValue().getName());
+                } else {
+                    log.warn("Referenced class {} ignored, definition {} taken by {}",
+                            reference.getValue().getName(), reference.getKey(), owner.getName());
+                }
+                pending.addAll(analysis.references().entrySet());
+            }
         }
-        processedClasses.add(clazz);
+        return referenced;
+    }
+
+    /**
+     * Analyzes the declared fields of a class.
+     */
+    private Analysis analyze(Class<?> clazz) {
 
         // Map to hold the Swagger model for the current class
-        Map<String, String> swaggerModel = new HashMap<>();
+        Map<String, Schema> swaggerModel = new HashMap<>();
+        Map<String, Class<?>> references = new HashMap<>();
 
         // Loop through all declared fields of the class
         for (Field field : clazz.getDeclaredFields()) {
-            String fieldType = field.getType().getSimpleName();
+            // Skip the fields excluded by name, modifiers or annotations
+            if (filter.excludesField(field.getName(), field.getModifiers())
+                    || (filter.hasAnnotationRules() && filter.excludesAnnotated(annotationNames(field.getDeclaredAnnotations())))) {
+                continue;
+            }
+            Schema schema;
 
-            // Handle List fields by recursively analyzing their generic types
-            if (List.class.isAssignableFrom(field.getType()) &&  !"atrPT".equals(getGenericType(field))) {
-                fieldType = "        type: array\n        items:\n          $ref: '#/definitions/" + getGenericType(field) + "'";
+            // Handle List fields by the schema of their element type
+            if (List.class.isAssignableFrom(field.getType())) {
+                Class<?> elementType = getElementType(field);
+                schema = Schema.arrayOf(elementType != null ? this.typeSchema(elementType, references)
+                        : primitiveSchema("Object"));
             }
-            // Handle object fields by referencing their Swagger definitions
-            else if (!isPrimitive(field.getType())) {
-                if (fieldType.equals("byte[]")) {
-                    // Special case for byte arrays
-                    fieldType = "string\n        format: binary";
-                } else {
-                    fieldType = "\n        $ref: '#/definitions/" + fieldType + "'";
-                }
+            // Handle the other fields by their type
+            else {
+                schema = this.typeSchema(field.getType(), references);
             }
-            // Handle primitive types and map them to Swagger types
-            else if (isPrimitive(field.getType())) {
-                // se busca la descripcion en la base de datos
-
-                fieldType = switch (fieldType) {
-                    case "int", "Integer" -> "integer\n        format: int32";
-                    case "Date", "long", "Long" -> "integer\n        format: int64";
-                    case "float", "Float" -> "number\n        format: float";
-                    case "double", "Double" -> "number\n        format: double";
-                    case "BigDecimal" -> "number";
-                    case "boolean", "Boolean" -> "boolean";
-                    case "String" -> "string";
-                    case "Byte" -> "string\n        format: byte";
-                    case "Map" -> "object\n      additionalProperties:\n        type: string";
-                    default -> {
-                        log.info("Type not found: {}", fieldType);
-                        // Default to string if type is unrecognized
-                        yield "string";
-                    }
-                };
 
-            }
+            // Add the field name and schema to the Swagger model
+            swaggerModel.put(field.getName(), schema);
+        }
+        boolean excluded = filter.excludesClass(clazz.getSimpleName(), clazz.getPackageName())
+                || (filter.hasAnnotationRules() && filter.excludesAnnotated(annotationNames(clazz.getDeclaredAnnotations())));
+        return new Analysis(swaggerModel, references, excluded);
+    }
+
+    private static List<String> annotationNames(Annotation[] annotations) {
+        List<String> names = new ArrayList<>(annotations.length);
+        for (Annotation annotation : annotations) {
+            names.add(annotation.annotationType().getName());
+        }
+        return names;
+    }
+
+    /**
+     * Maps a type to its schema, recording the classes referenced by their definition name.
+     *
+     * @param type       the type to map
+     * @param references the referenced classes, by definition name
+     * @return the schema of the type
+     */
+    private Schema typeSchema(Class<?> type, Map<String, Class<?>> references) {
+        // Special case for byte arrays
+        if (type == byte[].class) {
+            return Schema.BINARY;
+        }
+        // Handle arrays by the schema of their component type
+        if (type.isArray()) {
+            return Schema.arrayOf(this.typeSchema(type.getComponentType(), references));
+        }
+        // Handle primitive types and map them to the shared Swagger schemas
+        if (isPrimitive(type)) {
+            return primitiveSchema(type.getSimpleName());
+        }
+        // Enums and interfaces have no properties of their own to define, excluded classes are not defined
+        if (type.isEnum()) {
+            return Schema.enumOf(enumConstants(type));
+        }
+        if (type.isInterface() || filter.excludesClass(type.getSimpleName(), type.getPackageName())) {
+            return Schema.OBJECT;
+        }
+        // Handle object types by referencing their Swagger definitions
+        references.putIfAbsent(type.getSimpleName(), type);
+        return Schema.ref(type.getSimpleName());
+    }
 
-            // Add the field name and type to the Swagger model
-            swaggerModel.put(field.getName(), fieldType);
+    /**
+     * Retrieves the constant names of an enum in declaration order, without initializing it.
+     */
+    private static List<String> enumConstants(Class<?> type) {
+        List<String> constants = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (field.isEnumConstant()) {
+                constants.add(field.getName());
+            }
         }
-        return swaggerModel;
+        return constants;
+    }
+
+    /**
+     * Maps a primitive or standard Java type to its Swagger schema.
+     *
+     * @param fieldType the simple name of the type
+     * @return the shared schema of the type, string if the type is unrecognized
+     */
+    static Schema primitiveSchema(String fieldType) {
+        return switch (fieldType) {
+            case "int", "Integer" -> Schema.INT32;
+            case "Date", "long", "Long" -> Schema.INT64;
+            case "float", "Float" -> Schema.FLOAT;
+            case "double", "Double" -> Schema.DOUBLE;
+            case "BigDecimal" -> Schema.NUMBER;
+            case "boolean", "Boolean" -> Schema.BOOLEAN;
+            case "String" -> Schema.STRING;
+            case "Byte" -> Schema.BYTE;
+            case "Map" -> Schema.MAP;
+            default -> {
+                log.info("Type not found: {}", fieldType);
+                // Default to string if type is unrecognized
+                yield Schema.STRING;
+            }
+        };
     }
 
     /**
@@ -104,14 +266,19 @@ public class ObjectAnalyzer {
     }
 
     /**
-     * Retrieves the generic type of field, typically used for lists and collections.
+     * Retrieves the element class of a list field.
      *
      * @param field the field to analyze
-     * @return the simple name of the generic type of the field
+     * @return the class of the first type argument, or null if it is not a class
      */
-    private static String getGenericType(Field field) {
-        String typeName = field.getGenericType().getTypeName();
-        return typeName.substring(typeName.lastIndexOf(".") + 1, typeName.length() -1);
+    private static Class<?> getElementType(Field field) {
+        if (field.getGenericType() instanceof ParameterizedType parameterizedType) {
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            if (arguments.length > 0 && arguments[0] instanceof Class<?> elementType) {
+                return elementType;
+            }
+        }
+        return null;
     }
 
 }
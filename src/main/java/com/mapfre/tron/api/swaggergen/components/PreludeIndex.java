@@ -0,0 +1,189 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the top-level definitions of a prelude file.
+ * <p>
+ * The prelude holds already rendered definitions, indented to sit under the {@code definitions}
+ * key of the document. The index is built in a single pass over the memory-mapped file and keeps
+ * the byte range of each definition, so the prelude can be transferred to the output channel
+ * without decoding it, skipping the definitions overridden by generated models if needed.
+ *
+ * @param path            the prelude file
+ * @param size            the size of the file when it was indexed
+ * @param lastModified    the last modification time of the file when it was indexed
+ * @param contentStart    the offset of the content, after the byte order mark if any
+ * @param definitions     the byte range ({@code [start, end)}) of each definition, in file order
+ * @param endsWithNewline whether the file ends with a line break
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 21:00
+ * @since jdk 1.17
+ */
+public record PreludeIndex(Path path, long size, long lastModified, long contentStart,
+                           Map<String, long[]> definitions, boolean endsWithNewline) {
+
+    /**
+     * Indentation of the definition names, under the {@code definitions} key.
+     */
+    private static final int NAME_INDENT = 2;
+
+    /**
+     * Indexes the given prelude file.
+     *
+     * @param path the prelude file
+     * @return the index of its definitions
+     * @throws IOException if the file cannot be read
+     */
+    public static PreludeIndex build(final Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long size = attributes.size();
+        Map<String, long[]> definitions = new LinkedHashMap<>();
+        if (size == 0) {
+            return new PreludeIndex(path, 0, attributes.lastModifiedTime().toMillis(), 0, definitions, true);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int limit = buffer.limit();
+
+            // Skip the UTF-8 byte order mark, if present
+            int contentStart = limit >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB
+                    && buffer.get(2) == (byte) 0xBF ? 3 : 0;
+
+            long[] current = null;
+            int lineStart = contentStart;
+            while (lineStart < limit) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                String name = definitionName(buffer, lineStart, lineEnd);
+                if (name != null) {
+                    // A new definition ends the previous one
+                    if (current != null) {
+                        current[1] = lineStart;
+                    }
+                    current = new long[]{lineStart, size};
+                    definitions.put(name, current);
+                }
+                lineStart = lineEnd + 1;
+            }
+            return new PreludeIndex(path, size, attributes.lastModifiedTime().toMillis(), contentStart,
+                    definitions, buffer.get(limit - 1) == '\n');
+        }
+    }
+
+    /**
+     * Returns the definition name declared by a line, if it is a key at the definition indentation.
+     */
+    private static String definitionName(final MappedByteBuffer buffer, final int start, final int end) {
+        int keyStart = start + NAME_INDENT;
+        if (keyStart >= end) {
+            return null;
+        }
+        for (int i = start; i < keyStart; i++) {
+            if (buffer.get(i) != ' ') {
+                return null;
+            }
+        }
+        byte first = buffer.get(keyStart);
+        if (first == ' ' || first == '#' || first == '-' || first == '\r') {
+            return null;
+        }
+        int colon = keyStart;
+        while (colon < end && buffer.get(colon) != ':') {
+            colon++;
+        }
+        if (colon == end) {
+            return null;
+        }
+        byte[] bytes = new byte[colon - keyStart];
+        buffer.get(keyStart, bytes);
+        String name = new String(bytes, StandardCharsets.UTF_8).trim();
+        if (name.length() > 1 && (name.charAt(0) == '\'' || name.charAt(0) == '"')
+                && name.charAt(name.length() - 1) == name.charAt(0)) {
+            name = name.substring(1, name.length() - 1);
+        }
+        return name;
+    }
+
+    /**
+     * Checks whether the file is unchanged since it was indexed.
+     *
+     * @return true if the file still has the indexed size and modification time
+     * @throws IOException if the file attributes cannot be read
+     */
+    public boolean isCurrent() throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return attributes.size() == size && attributes.lastModifiedTime().toMillis() == lastModified;
+    }
+
+    /**
+     * Returns the names of the definitions.
+     *
+     * @return the definition names, in file order
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(definitions.keySet());
+    }
+
+    /**
+     * Returns the byte ranges to copy, leaving out the given definitions.
+     *
+     * @param skipped the names of the definitions to leave out
+     * @return the {@code [start, end)} ranges, in file order
+     */
+    public List<long[]> ranges(final Set<String> skipped) {
+        List<long[]> ranges = new ArrayList<>();
+        long start = contentStart;
+        for (Map.Entry<String, long[]> definition : definitions.entrySet()) {
+            if (skipped.contains(definition.getKey())) {
+                if (definition.getValue()[0] > start) {
+                    ranges.add(new long[]{start, definition.getValue()[0]});
+                }
+                start = definition.getValue()[1];
+            }
+        }
+        if (size > start) {
+            ranges.add(new long[]{start, size});
+        }
+        return ranges;
+    }
+
+    /**
+     * Reads the definitions of the file, leaving out the given definitions, for the documents that
+     * cannot take the rendered bytes as they are.
+     *
+     * @param skipped the names of the definitions to leave out
+     * @return the decoded definitions, in file order
+     * @throws IOException if the file cannot be read
+     */
+    public String content(final Set<String> skipped) throws IOException {
+        StringBuilder content = new StringBuilder((int) size);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (long[] range : this.ranges(skipped)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, range[0], range[1] - range[0]);
+                content.append(StandardCharsets.UTF_8.decode(buffer));
+            }
+        }
+        return content.toString();
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recursive watcher of directory trees, used by the watch mode.
+ * <p>
+ * Every directory of the watched trees is registered in a {@link WatchService}; directories
+ * created later are registered as soon as they are reported. Events are debounced: a batch
+ * of changes is only returned once no event has arrived for the debounce period, so saving
+ * several files, or a build rewriting many class files, results in a single regeneration.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 20:43
+ * @since jdk 1.17
+ */
+@Slf4j
+public class SourceWatcher implements Closeable {
+
+    private final WatchService watchService;
+
+    private final Duration debounce;
+
+    // Watched directory of each registration key
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+
+    /**
+     * Batch of changes.
+     *
+     * @param files  the files created, modified or deleted
+     * @param rescan whether events were lost or a directory was deleted, so the trees must be scanned again
+     */
+    public record Changes(Set<Path> files, boolean rescan) {
+    }
+
+    private SourceWatcher(final Duration debounce) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.debounce = debounce;
+    }
+
+    /**
+     * Starts watching the given directory trees.
+     *
+     * @param roots    the root directories, missing ones are ignored
+     * @param debounce the quiet period that ends a batch of changes
+     * @return the watcher
+     * @throws IOException if a directory cannot be registered
+     */
+    public static SourceWatcher start(final Collection<Path> roots, final Duration debounce) throws IOException {
+        SourceWatcher watcher = new SourceWatcher(debounce);
+        try {
+            for (Path root : roots) {
+                if (Files.isDirectory(root)) {
+                    watcher.registerTree(root, null);
+                } else {
+                    log.warn("Watched directory not found: {}", root);
+                }
+            }
+        } catch (IOException e) {
+            watcher.close();
+            throw e;
+        }
+        log.info("Watching {} directories", watcher.directories.size());
+        return watcher;
+    }
+
+    /**
+     * Waits for the next batch of changes.
+     *
+     * @return the changes, once no event has arrived for the debounce period
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public Changes awaitChanges() throws InterruptedException {
+        Set<Path> files = new LinkedHashSet<>();
+        boolean rescan = false;
+
+        // Block until the first event, then keep collecting until the events stop
+        WatchKey key = watchService.take();
+        while (key != null) {
+            rescan |= this.collect(key, files);
+            key = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return new Changes(files, rescan);
+    }
+
+    /**
+     * Collects the events of a key and resets it.
+     *
+     * @return true if the trees must be scanned again
+     */
+    private boolean collect(final WatchKey key, final Set<Path> files) {
+        boolean rescan = false;
+        Path dir = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) {
+                rescan = true;
+                continue;
+            }
+            Path path = dir.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                // Register the new directory and report the files created in it before it was registered
+                try {
+                    this.registerTree(path, files);
+                } catch (IOException e) {
+                    log.warn("Directory not watched: {}", path, e);
+                    rescan = true;
+                }
+            } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE && directories.containsValue(path)) {
+                // The events of the files of a deleted directory are not reported
+                rescan = true;
+            } else {
+                files.add(path);
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+        return rescan;
+    }
+
+    /**
+     * Registers a directory and its subdirectories, adding their files to the given set if any.
+     */
+    private void registerTree(final Path root, final Set<Path> files) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attributes)
+                    throws IOException {
+                directories.put(dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE), dir);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+                if (files != null) {
+                    files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Stops watching.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+}
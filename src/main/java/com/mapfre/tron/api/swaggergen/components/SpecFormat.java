@@ -0,0 +1,97 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Output formats of the generated document.
+ * <p>
+ * Swagger 2.0 documents hold the models under {@code definitions}; OpenAPI 3 documents hold them
+ * under {@code components/schemas}, so their references point there. Each format is written to its
+ * own file next to the configured document: {@code swagger.yaml} gives {@code swagger.json},
+ * {@code openapi.yaml} and {@code openapi.json}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 21:00
+ * @since jdk 1.17
+ */
+public enum SpecFormat {
+
+    SWAGGER2_YAML(false, false),
+    SWAGGER2_JSON(false, true),
+    OPENAPI3_YAML(true, false),
+    OPENAPI3_JSON(true, true);
+
+    private final boolean openApi;
+
+    private final boolean json;
+
+    SpecFormat(final boolean openApi, final boolean json) {
+        this.openApi = openApi;
+        this.json = json;
+    }
+
+    /**
+     * Parses a format name, such as {@code swagger2-yaml} or {@code openapi3-json}.
+     *
+     * @param name the format name, case insensitive
+     * @return the format
+     * @throws IllegalArgumentException if the name is not a known format
+     */
+    public static SpecFormat of(final String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported output format: " + name, e);
+        }
+    }
+
+    /**
+     * Checks whether the format is OpenAPI 3.
+     *
+     * @return true for OpenAPI 3, false for Swagger 2.0
+     */
+    public boolean isOpenApi() {
+        return openApi;
+    }
+
+    /**
+     * Checks whether the format is JSON.
+     *
+     * @return true for JSON, false for YAML
+     */
+    public boolean isJson() {
+        return json;
+    }
+
+    /**
+     * Returns the prefix of the references to the models of a document.
+     *
+     * @return {@code #/definitions/} or {@code #/components/schemas/}
+     */
+    public String refPrefix() {
+        return openApi ? "#/components/schemas/" : "#/definitions/";
+    }
+
+    /**
+     * Returns the file of this format, next to the Swagger 2.0 YAML document.
+     *
+     * @param document the Swagger 2.0 YAML document
+     * @return the file where this format is written
+     */
+    public Path resolve(final Path document) {
+        if (this == SWAGGER2_YAML) {
+            return document;
+        }
+        String fileName = document.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = openApi ? "openapi" : dot > 0 ? fileName.substring(0, dot) : fileName;
+        return document.resolveSibling(baseName + (json ? ".json" : ".yaml"));
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+}
@@ -0,0 +1,339 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming validator of generated Swagger documents.
+ * <p>
+ * Each file is read once, line by line, keeping only a stack of the open mappings (bounded by
+ * the nesting depth), the names of the definitions and the references found. It reports:
+ * <ul>
+ *     <li>duplicate keys in the same mapping, including duplicate definitions</li>
+ *     <li>properties without {@code type}, {@code $ref} or {@code allOf}</li>
+ *     <li>references to definitions that do not exist, local ({@code #/definitions/X}) or in
+ *     another validated file ({@code shard.yaml#/definitions/X})</li>
+ * </ul>
+ * The parser understands the block YAML written by {@link YamlSpecWriter} and the usual
+ * handwritten definitions of the prelude; flow collections are not descended into.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:20
+ * @since jdk 1.17
+ */
+public final class SpecValidator {
+
+    /**
+     * Maximum number of problems listed in the report.
+     */
+    private static final int MAX_LISTED_PROBLEMS = 20;
+
+    private static final String DEFINITIONS_PREFIX = "#/definitions/";
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private SpecValidator() {
+    }
+
+    /**
+     * Result of a validation.
+     *
+     * @param files       the number of files read
+     * @param definitions the number of definitions found
+     * @param references  the number of references checked
+     * @param problems    the problems found, as {@code file:line message}
+     */
+    public record Report(int files, int definitions, int references, List<String> problems) {
+
+        /**
+         * Checks whether no problem was found.
+         *
+         * @return true if the documents are valid
+         */
+        public boolean isValid() {
+            return problems.isEmpty();
+        }
+
+        /**
+         * Returns a compact summary, listing the first problems only.
+         *
+         * @return the report text
+         */
+        public String summary() {
+            StringBuilder summary = new StringBuilder()
+                    .append(problems.size()).append(" problems in ").append(files).append(" files (")
+                    .append(definitions).append(" definitions, ").append(references).append(" references)");
+            problems.stream().limit(MAX_LISTED_PROBLEMS).forEach(problem -> summary.append("\n  ").append(problem));
+            if (problems.size() > MAX_LISTED_PROBLEMS) {
+                summary.append("\n  ... ").append(problems.size() - MAX_LISTED_PROBLEMS).append(" more");
+            }
+            return summary.toString();
+        }
+    }
+
+    /**
+     * Reference found in a document.
+     */
+    private record Reference(Path file, int line, String target) {
+    }
+
+    /**
+     * Kind of an open mapping, to tell definitions and properties from other keys.
+     */
+    private enum Kind { OTHER, DEFINITIONS, DEFINITION, PROPERTIES, PROPERTY }
+
+    /**
+     * Open mapping: its indentation, its keys so far and the key that owns it.
+     */
+    private static final class Frame {
+
+        private final int indent;
+        private final Kind kind;
+        private final String owner;
+        private final int line;
+        private final Set<String> keys = new HashSet<>();
+        private String lastKey;
+        private boolean lastKeyEmpty;
+        private int lastKeyLine;
+
+        private Frame(final int indent, final Kind kind, final String owner, final int line) {
+            this.indent = indent;
+            this.kind = kind;
+            this.owner = owner;
+            this.line = line;
+        }
+    }
+
+    /**
+     * Validates the given documents, resolving the references between them.
+     *
+     * @param files the documents to validate
+     * @return the validation report
+     * @throws IOException if a document cannot be read
+     */
+    public static Report validate(final List<Path> files) throws IOException {
+        Map<Path, Path> documents = new LinkedHashMap<>();
+        files.forEach(file -> documents.put(file, file));
+        return validate(documents);
+    }
+
+    /**
+     * Validates documents not yet published, such as temporary files, resolving the references
+     * between them as if they were already at their final paths.
+     *
+     * @param documents the file holding each document, by the path the document is published at
+     * @return the validation report, locating the problems by the published paths
+     * @throws IOException if a document cannot be read
+     */
+    public static Report validate(final Map<Path, Path> documents) throws IOException {
+        Map<Path, Set<String>> definitions = new HashMap<>();
+        List<Reference> references = new ArrayList<>();
+        List<String> problems = new ArrayList<>();
+        for (Map.Entry<Path, Path> document : documents.entrySet()) {
+            Path normalized = document.getKey().toAbsolutePath().normalize();
+            definitions.put(normalized, scan(normalized, document.getValue(), references, problems));
+        }
+
+        // Resolve the references against the definitions of the document they point to
+        for (Reference reference : references) {
+            int hash = reference.target().indexOf('#');
+            String document = hash < 0 ? reference.target() : reference.target().substring(0, hash);
+            String pointer = hash < 0 ? "" : reference.target().substring(hash);
+            if (!pointer.startsWith(DEFINITIONS_PREFIX)) {
+                problems.add(location(reference.file(), reference.line()) + " unsupported reference " + reference.target());
+                continue;
+            }
+            Path target = document.isEmpty() ? reference.file()
+                    : reference.file().resolveSibling(document).normalize();
+            Set<String> names = definitions.get(target);
+            if (names == null) {
+                problems.add(location(reference.file(), reference.line()) + " reference to a document not validated "
+                        + reference.target());
+            } else if (!names.contains(pointer.substring(DEFINITIONS_PREFIX.length()))) {
+                problems.add(location(reference.file(), reference.line()) + " broken reference " + reference.target());
+            }
+        }
+
+        int definitionCount = definitions.values().stream().mapToInt(Set::size).sum();
+        return new Report(documents.size(), definitionCount, references.size(), problems);
+    }
+
+    /**
+     * Reads a document once from the given source, collecting its definition names and references
+     * and reporting the duplicate keys and the properties without type.
+     */
+    private static Set<String> scan(final Path file, final Path source, final List<Reference> references,
+                                    final List<String> problems) throws IOException {
+        Set<String> names = new HashSet<>();
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(-1, Kind.OTHER, null, 0));
+        String definition = null;
+        int blockIndent = -1;
+
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                // Skip the UTF-8 byte order mark, if present
+                if (number == 1 && line.startsWith(BYTE_ORDER_MARK)) {
+                    line = line.substring(1);
+                }
+                int indent = indentOf(line);
+                if (indent == line.length() || line.charAt(indent) == '#') {
+                    continue;
+                }
+                // Skip the content of block scalars
+                if (blockIndent >= 0) {
+                    if (indent > blockIndent) {
+                        continue;
+                    }
+                    blockIndent = -1;
+                }
+
+                boolean item = line.startsWith("- ", indent) || indent + 1 == line.length() && line.charAt(indent) == '-';
+                int start = item ? indent + 2 : indent;
+                int colon = start < line.length() ? keyEnd(line, start) : -1;
+                if (item) {
+                    // A sequence item ends the mapping of the previous item
+                    close(stack, indent, file, definition, problems);
+                    if (colon >= 0) {
+                        indent = start;
+                        stack.push(new Frame(indent, Kind.OTHER, null, number));
+                    }
+                }
+                if (colon < 0) {
+                    continue;
+                }
+                String key = unquote(line.substring(start, colon).trim());
+                String value = line.substring(colon + 1).trim();
+
+                close(stack, indent, file, definition, problems);
+                Frame top = stack.peek();
+                if (top.indent < indent) {
+                    // First key of a mapping nested under the last key of the enclosing one
+                    Kind kind = switch (top.kind) {
+                        case DEFINITIONS -> Kind.DEFINITION;
+                        case PROPERTIES -> Kind.PROPERTY;
+                        default -> "definitions".equals(top.lastKey) && top.indent == 0 ? Kind.DEFINITIONS
+                                : "properties".equals(top.lastKey) && top.kind == Kind.DEFINITION ? Kind.PROPERTIES
+                                : Kind.OTHER;
+                    };
+                    top.lastKeyEmpty = false;
+                    top = new Frame(indent, kind, top.lastKey, number);
+                    stack.push(top);
+                } else {
+                    checkEmptyProperty(top, file, definition, problems);
+                }
+
+                if (!top.keys.add(key)) {
+                    problems.add(location(file, number) + " duplicate key " + key
+                            + (top.owner != null ? " in " + top.owner : ""));
+                }
+                top.lastKey = key;
+                top.lastKeyEmpty = value.isEmpty();
+                top.lastKeyLine = number;
+
+                if (top.kind == Kind.DEFINITIONS) {
+                    definition = key;
+                    names.add(key);
+                }
+                if ("$ref".equals(key)) {
+                    references.add(new Reference(file, number, unquote(value)));
+                } else if (value.startsWith("|") || value.startsWith(">")) {
+                    blockIndent = indent;
+                }
+            }
+        }
+        close(stack, -1, file, definition, problems);
+        return names;
+    }
+
+    /**
+     * Closes the mappings indented deeper than the given indentation.
+     */
+    private static void close(final Deque<Frame> stack, final int indent, final Path file, final String definition,
+                              final List<String> problems) {
+        while (stack.peek().indent > indent) {
+            Frame frame = stack.pop();
+            checkEmptyProperty(frame, file, definition, problems);
+            if (frame.kind == Kind.PROPERTY && !frame.keys.contains("type") && !frame.keys.contains("$ref")
+                    && !frame.keys.contains("allOf")) {
+                problems.add(location(file, frame.line) + " property " + frame.owner
+                        + (definition != null ? " of " + definition : "") + " has no type");
+            }
+        }
+    }
+
+    /**
+     * Reports a property declared without any schema.
+     */
+    private static void checkEmptyProperty(final Frame frame, final Path file, final String definition,
+                                           final List<String> problems) {
+        if (frame.kind == Kind.PROPERTIES && frame.lastKeyEmpty) {
+            problems.add(location(file, frame.lastKeyLine) + " property " + frame.lastKey
+                    + (definition != null ? " of " + definition : "") + " has no type");
+            frame.lastKeyEmpty = false;
+        }
+    }
+
+    private static int indentOf(final String line) {
+        int indent = 0;
+        while (indent < line.length() && line.charAt(indent) == ' ') {
+            indent++;
+        }
+        return indent;
+    }
+
+    /**
+     * Returns the position of the colon ending the key of a line, or -1 if the line holds no key.
+     */
+    private static int keyEnd(final String line, final int start) {
+        char first = line.charAt(start);
+        if (first == '\'' || first == '"') {
+            int end = line.indexOf(first, start + 1);
+            while (first == '\'' && end >= 0 && end + 1 < line.length() && line.charAt(end + 1) == '\'') {
+                end = line.indexOf(first, end + 2);
+            }
+            return end >= 0 && end + 1 < line.length() && line.charAt(end + 1) == ':' ? end + 1 : -1;
+        }
+        if (first == '{' || first == '[') {
+            return -1;
+        }
+        for (int i = start; i < line.length(); i++) {
+            if (line.charAt(i) == ':' && (i + 1 == line.length() || line.charAt(i + 1) == ' ')) {
+                return i;
+            }
+            if (line.charAt(i) == ' ' && i + 1 < line.length() && line.charAt(i + 1) == '#') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static String unquote(final String value) {
+        if (value.length() > 1 && (value.charAt(0) == '\'' || value.charAt(0) == '"')
+                && value.charAt(value.length() - 1) == value.charAt(0)) {
+            String unquoted = value.substring(1, value.length() - 1);
+            return value.charAt(0) == '\'' ? unquoted.replace("''", "'") : unquoted;
+        }
+        return value;
+    }
+
+    private static String location(final Path file, final int line) {
+        return file.getFileName() + ":" + line;
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import com.mapfre.tron.api.swaggergen.model.Schema;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming writer of a generated document in one {@link SpecFormat}.
+ * <p>
+ * The generator drives every writer through the same sequence: header, prelude, then each
+ * definition with its properties, and finally {@link #commit()}. Writers replace their target
+ * file atomically on commit and discard it when closed without committing.
+ * <p>
+ * The translations of a property description, when the descriptions are resolved in several
+ * locales, are written as the {@value #TRANSLATIONS} vendor extension of its schema.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 21:09
+ * @since jdk 1.17
+ */
+public interface SpecWriter extends Closeable {
+
+    /**
+     * Vendor extension holding the translations of a property description, by locale.
+     */
+    String TRANSLATIONS = "x-translations";
+
+    /**
+     * Writes the document header: specification version, API information and the start of the models.
+     *
+     * @param title       the API title
+     * @param description the API description
+     * @param version     the API version
+     * @throws IOException if an I/O error occurs
+     */
+    void writeHeader(String title, String description, String version) throws IOException;
+
+    /**
+     * Writes the definitions of the prelude file, leaving out the given definitions.
+     *
+     * @param prelude the index of the file with the rendered definitions
+     * @param skipped the names of the definitions to leave out
+     * @throws IOException if an I/O error occurs while reading or writing
+     */
+    void writePrelude(PreludeIndex prelude, Set<String> skipped) throws IOException;
+
+    /**
+     * Starts the definition of an object model.
+     *
+     * @param name the model name
+     * @throws IOException if an I/O error occurs
+     */
+    void beginDefinition(String name) throws IOException;
+
+    /**
+     * Writes a property of the current definition.
+     *
+     * @param name   the property name
+     * @param schema the property schema
+     * @throws IOException if an I/O error occurs
+     */
+    default void writeProperty(String name, Schema schema) throws IOException {
+        this.writeProperty(name, schema, Map.of());
+    }
+
+    /**
+     * Writes a property of the current definition with the translations of its description.
+     *
+     * @param name         the property name
+     * @param schema       the property schema
+     * @param translations the description in the other locales, by locale; empty to write none
+     * @throws IOException if an I/O error occurs
+     */
+    void writeProperty(String name, Schema schema, Map<String, String> translations) throws IOException;
+
+    /**
+     * Ends the current definition.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    void endDefinition() throws IOException;
+
+    /**
+     * Completes the document and atomically replaces the target file with it.
+     *
+     * @throws IOException if an I/O error occurs while flushing or moving the file
+     */
+    void commit() throws IOException;
+
+}
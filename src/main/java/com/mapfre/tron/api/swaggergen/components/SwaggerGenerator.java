@@ -1,18 +1,23 @@
 package com.mapfre.tron.api.swaggergen.components;
 
-import com.mapfre.tron.api.swaggergen.entity.Property;
+import com.mapfre.tron.api.swaggergen.entity.LocalizedDescriptions;
+import com.mapfre.tron.api.swaggergen.metrics.GenerationMetrics;
+import com.mapfre.tron.api.swaggergen.model.Schema;
 import com.mapfre.tron.api.swaggergen.repository.OracleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
-import java.util.stream.Stream;
+import java.util.function.Function;
 
 /**
  * Utility class responsible for generating a Swagger file (in YAML format)
@@ -20,15 +25,29 @@ import java.util.stream.Stream;
  * and includes basic information about the API, such as title, version, and definitions
  * of various object models.
  * <p>
- * This class writes the Swagger file to the specified file path and logs
- * the process to track execution.
+ * This class writes the Swagger file to the specified file path through a
+ * {@link YamlSpecWriter}, with models and properties sorted by name, and logs
+ * the process to track execution. In the {@code sharded} layout the definitions
+ * are split into one file per source package, written concurrently and linked
+ * from the root document with cross-file references. Every file is first written to a
+ * temporary file; the previous files are only replaced once all of them are written and valid.
+ * <p>
+ * Additional formats (Swagger 2.0 JSON, OpenAPI 3 YAML and JSON) are written from the same
+ * definitions, with their descriptions resolved once: each definition is handed to every
+ * {@link SpecWriter} in a single traversal of the models.
+ * <p>
+ * When the descriptions are resolved in several locales, all of them come from the same lookup and
+ * the same definitions: the {@code per-locale} mode writes one more document per locale next to the
+ * configured one, such as {@code swagger_es_ES.yaml}, always in the {@code single} layout; the
+ * {@code extensions} mode writes the translations in the {@code x-translations} vendor extension of
+ * each described property.
  * <p>
  * The Swagger file is generated with object definitions, where each object
- * includes its properties and types. Some object models and properties are excluded
- * based on specific conditions.
+ * includes its properties and types. Object models and properties are excluded
+ * by the rules of the {@link ModelFilter}.
  *
  * @author architecture - rperezv
- * @version 23/10/2024 - 09:52
+ * @version 16/10/2026 - 22:38
  * @since jdk 1.17
  */
 @Component
@@ -36,102 +55,599 @@ import java.util.stream.Stream;
 @Slf4j
 public class SwaggerGenerator {
 
-    @Value("${app.env.excludedClasses}")
-    private String excludedClasses;
+    /**
+     * Shard of the definitions without a package, named after a keyword no package can use.
+     */
+    static final String SHARED_SHARD = "default";
+
+    /**
+     * File of the shards directory listing the shards written by the last run, the only ones ever deleted.
+     */
+    static final String SHARD_INDEX = ".swaggergen-shards";
+
+    /**
+     * Supported values of the duplicate policy.
+     */
+    private static final Set<String> DUPLICATE_POLICIES = Set.of("prelude-wins", "generated-wins", "fail");
+
+    /**
+     * File with the rendered definitions written before the generated models.
+     */
+    @Value("${app.output.prelude:source_definitions.txt}")
+    private String preludePath;
+
+    /**
+     * Output layout: {@code single} writes one document, {@code sharded} one file per package.
+     */
+    @Value("${app.output.layout:single}")
+    private String layout;
+
+    /**
+     * Directory of the shard files, next to the root document.
+     */
+    @Value("${app.output.shards-dir:definitions}")
+    private String shardsDirName;
+
+    /**
+     * Resolution of generated models named as a prelude definition: {@code prelude-wins} keeps the
+     * prelude definition, {@code generated-wins} keeps the generated one, {@code fail} stops the run.
+     */
+    @Value("${app.output.duplicate-policy:prelude-wins}")
+    private String duplicatePolicy;
+
+    /**
+     * Whether the written files are validated, failing the run if they are not consistent.
+     */
+    @Value("${app.validation.enabled:true}")
+    private boolean validationEnabled;
+
+    /**
+     * Formats written next to the Swagger 2.0 YAML document, which is always written.
+     */
+    @Value("${app.output.formats:swagger2-yaml}")
+    private List<String> formats;
+
+    /**
+     * Output of the locales other than the primary one: {@code per-locale} writes one document per locale,
+     * {@code extensions} writes the translations as vendor extensions of the primary document.
+     */
+    @Value("${app.output.locale-mode:per-locale}")
+    private String localeMode;
+
+    // Index of the prelude, built once and reused while the file is unchanged
+    private volatile PreludeIndex preludeIndex;
 
     private final OracleRepository oracleRepository;
 
+    private final GenerationMetrics generationMetrics;
+
+    private final ModelFilter modelFilter;
+
     /**
      * Generates a Swagger 2.0 YAML file with model definitions from the provided map of models.
      *
      * @param models   a map where each key is the model name and each value is another map
      *                 that represents the properties of the model (field names as keys and
-     *                 field types as values)
+     *                 field schemas as values)
      * @param filePath the path where the Swagger YAML file should be generated
+     * @return the generated definitions as written, sorted by name and with their descriptions
      * @throws IOException if an I/O error occurs while writing to the file
      */
-    public void generateSwaggerFile(final Map<String, Map<String, String>> models, final String filePath)
-            throws IOException {
+    public Map<String, Map<String, Schema>> generateSwaggerFile(final Map<String, Map<String, Schema>> models,
+                                                                final String filePath) throws IOException {
+        return this.generateSwaggerFile(models, Map.of(), filePath);
+    }
+
+    /**
+     * Generates a Swagger 2.0 YAML file with model definitions from the provided map of models.
+     * In the {@code sharded} layout the definitions are written to one file per package, in
+     * parallel, and the file at the given path references them.
+     *
+     * @param models          a map where each key is the model name and each value is another map
+     *                        that represents the properties of the model (field names as keys and
+     *                        field schemas as values)
+     * @param classPackageMap the package of each model, used to shard the definitions
+     * @param filePath        the path where the Swagger YAML file should be generated
+     * @return the generated definitions as written, sorted by name and with their descriptions
+     * @throws IOException if an I/O error occurs while writing to the file
+     */
+    public Map<String, Map<String, Schema>> generateSwaggerFile(final Map<String, Map<String, Schema>> models,
+                                                                final Map<String, String> classPackageMap,
+                                                                final String filePath) throws IOException {
 
         log.info("SwaggerGenerator running...");
 
-        // Open the file writer to write the Swagger content
-        FileWriter writer = new FileWriter(filePath);
+        // Resolve the descriptions of every simple property, in every locale, in a few batched queries
+        LocalizedDescriptions descriptions;
+        try (GenerationMetrics.Phase phase = generationMetrics.phase("lookup")) {
+            Set<String> simpleProperties = collectSimpleProperties(models);
+            descriptions = oracleRepository.findLocalizedDescriptions(simpleProperties);
+            phase.items(simpleProperties.size());
+        }
 
-        // Write basic Swagger information such as version, description, and title
-        writer.write("swagger: '2.0'\n");
-        writer.write("info:\n  description: 'API TRON Objects'\n  version: '1.0.0'\n  title: 'API TRON Objects'\n");
-        writer.write("paths: {}\n");
-        writer.write("definitions:\n");
+        // Definitions to be written, with their descriptions in the primary locale
+        Map<String, Map<String, Schema>> definitions = this.buildDefinitions(models, descriptions.forLocale(0));
 
-        // Write the initial definitions section
-        String sourceFilePath = "source_definitions.txt";
-        try (Stream<String> lines = Files.lines(Paths.get(sourceFilePath))) {
-            lines.forEach(line -> {
-                try {
-                    writer.write(line + System.lineSeparator());
-                } catch (IOException e) {
-                    log.error(e.getMessage(), e);;
+        // Resolve the generated models that redefine a prelude definition
+        PreludeIndex prelude = this.loadPreludeIndex();
+        Set<String> skippedPrelude = this.resolveDuplicates(definitions, prelude);
+        resolveMissingReferences(definitions, prelude);
+
+        // Write the definitions to temporary files, published together once they are complete and valid
+        boolean sharded = "sharded".equalsIgnoreCase(layout);
+        int localeCount = descriptions.locales().size();
+        boolean perLocale = localeCount > 1 && !"extensions".equalsIgnoreCase(localeMode);
+        Localization primary = new Localization(descriptions, 0, localeCount > 1 && !perLocale);
+        List<AbstractSpecWriter> written = Collections.synchronizedList(new ArrayList<>());
+        try {
+            try (GenerationMetrics.Phase phase = generationMetrics.phase("write")) {
+                long bytes = sharded
+                        ? this.writeShards(definitions, classPackageMap, Paths.get(filePath), prelude, skippedPrelude,
+                                primary, written)
+                        : this.writeDocument(definitions, Paths.get(filePath), null, prelude, skippedPrelude, primary,
+                                written);
+
+                // Write the other locales from the same definitions, one document each
+                if (perLocale) {
+                    for (int locale = 1; locale < localeCount; locale++) {
+                        Localization localization = new Localization(descriptions, locale, false);
+                        bytes += this.writeDocument(definitions, Paths.get(filePath), null, prelude, skippedPrelude,
+                                localization, written);
+                    }
                 }
-            });
+                generationMetrics.count(GenerationMetrics.MODELS_WRITTEN, definitions.size());
+                generationMetrics.count(GenerationMetrics.BYTES_WRITTEN, bytes);
+                phase.items(bytes);
+            }
 
-        } catch (IOException e) {
-            log.error(e.getMessage(), e);
+            // Read the written files back once, checking their keys and references, before replacing the previous ones
+            if (validationEnabled) {
+                this.validate(written);
+            }
+            for (AbstractSpecWriter writer : written) {
+                writer.commit();
+            }
+        } finally {
+            // Discards the temporary files left when writing or validating fails
+            closeAll(written);
+        }
+        if (sharded) {
+            this.deleteStaleShards(Paths.get(filePath), written);
         }
 
-        // Loop through the models and add each model's definition to the Swagger file
-        for (String modelName : models.keySet()) {
+        log.info("SwaggerGenerator stopped");
+        return definitions;
+    }
+
+    /**
+     * Builds the definitions to be written: models and properties sorted by name, excluded models and
+     * properties skipped, and descriptions added to the simple properties. The models are filtered while
+     * they are analyzed already; filtering them again by name covers the definitions reused from the
+     * incremental manifest.
+     */
+    private Map<String, Map<String, Schema>> buildDefinitions(final Map<String, Map<String, Schema>> models,
+                                                              final Map<String, String> descriptions) {
+        Map<String, Map<String, Schema>> definitions = new TreeMap<>();
+
+        // Loop through the models, sorted by name, and build each model's definition
+        for (Map.Entry<String, Map<String, Schema>> model : new TreeMap<>(models).entrySet()) {
+
+            String modelName = model.getKey();
 
             // Retrieve properties of the model
-            Map<String, String> properties = models.get(modelName);
+            Map<String, Schema> properties = model.getValue();
 
             // Skip certain models that should not be included in the Swagger file
-            Set<String> excludedSet = new HashSet<>(Arrays.asList(excludedClasses.split(",")));
-            if (properties != null && !properties.isEmpty() && !excludedSet.contains(modelName)) {
-
-                // Write the model's name and structure (type: object) to the file
-                writer.write("  " + modelName + ":\n    type: object\n    properties:\n");
-
-                // Loop through the properties of the model and write each property to the file
-                properties.keySet().stream()
-                        .filter(property -> !"atrPT".equals(property))
-                        .forEach(property -> {
-                            try {
-                                // Handle array types
-                                if (properties.get(property).contains("type: array")) {
-                                    writer.write("      " + property + ":\n" + properties.get(property) + "\n");
-                                    log.info("Writing property: {}", property);
-                                }
-                                // Handle references to other models
-                                else if (properties.get(property).contains("$") && !"oTrnPrcS".equals(property)) {
-                                    String ref = properties.get(property).substring(properties.get(property).indexOf("$"), properties.get(property).length() - 1);
-                                    writer.write("      " + property + ":\n        " + ref + "'\n");
-                                }
-                                // Handle simple properties
-                                else if (!"serialVersionUID".equals(property) && !"oTrnPrcS".equals(property)) {
-                                    writer.write("      " + property + ":\n        type: " + properties.get(property) + "\n");
-
-                                    // Add description to properties
-                                    List<Property> propertyList = oracleRepository.findDescriptionByProperty(property);
-                                    if (propertyList != null && !propertyList.isEmpty()) {
-                                        String description = propertyList.get(0).getDescription();
-                                        if (description != null && !description.trim().isEmpty()) {
-                                            writer.write("        description: " + description + "\n");
-                                        }
-                                    }
-                                }
-                            } catch (IOException e) {
-                                log.error(e.getMessage(), e);
-                            }
-                        });
-
-            }
-
-        }
-
-        writer.close();
+            if (properties != null && !properties.isEmpty() && !modelFilter.excludesModel(modelName)) {
 
-        log.info("SwaggerGenerator stopped");
+                // Loop through the properties of the model, sorted by name
+                Map<String, Schema> definition = new LinkedHashMap<>();
+                for (Map.Entry<String, Schema> entry : new TreeMap<>(properties).entrySet()) {
+                    String property = entry.getKey();
+                    Schema schema = entry.getValue();
+                    if (modelFilter.excludesProperty(property)) {
+                        continue;
+                    }
+
+                    // Handle array types and references to other models
+                    if (schema.isArray() || schema.isRef()) {
+                        definition.put(property, schema);
+                        log.debug("Writing property: {}", property);
+                    }
+                    // Handle simple properties, adding their description
+                    else {
+                        String description = descriptions.get(property);
+                        definition.put(property, description != null && !description.trim().isEmpty()
+                                ? schema.withDescription(description) : schema);
+                    }
+                }
+                definitions.put(modelName, definition);
+            }
+        }
+        return definitions;
+    }
+
+    /**
+     * Returns the index of the prelude, indexing the file again only when it has changed.
+     *
+     * @return the index, or null if the prelude cannot be read
+     */
+    private PreludeIndex loadPreludeIndex() {
+        try {
+            PreludeIndex index = preludeIndex;
+            if (index == null || !index.path().equals(Paths.get(preludePath)) || !index.isCurrent()) {
+                index = PreludeIndex.build(Paths.get(preludePath));
+                preludeIndex = index;
+                log.info("Prelude indexed: {} definitions in {}", index.definitions().size(), preludePath);
+            }
+            return index;
+        } catch (IOException e) {
+            log.error(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Applies the duplicate policy to the generated models named as a prelude definition.
+     *
+     * @param definitions the generated definitions, from which the overridden ones are removed
+     * @param prelude     the index of the prelude, null if there is none
+     * @return the names of the prelude definitions overridden by generated models
+     */
+    private Set<String> resolveDuplicates(final Map<String, Map<String, Schema>> definitions,
+                                          final PreludeIndex prelude) {
+        // A misspelled policy fails every run, not only the first one with duplicates
+        String policy = duplicatePolicy.toLowerCase(Locale.ROOT);
+        if (!DUPLICATE_POLICIES.contains(policy)) {
+            throw new IllegalArgumentException("Unsupported duplicate policy: " + duplicatePolicy);
+        }
+        if (prelude == null) {
+            return Set.of();
+        }
+        Set<String> duplicates = new TreeSet<>(prelude.names());
+        duplicates.retainAll(definitions.keySet());
+        if (duplicates.isEmpty()) {
+            return Set.of();
+        }
+        switch (policy) {
+            case "prelude-wins" -> {
+                log.warn("Prelude definitions replace the generated models: {}", duplicates);
+                definitions.keySet().removeAll(duplicates);
+                return Set.of();
+            }
+            case "generated-wins" -> {
+                log.warn("Generated models replace the prelude definitions: {}", duplicates);
+                return duplicates;
+            }
+            case "fail" -> throw new IllegalStateException("Generated models redefine prelude definitions: " + duplicates);
+            default -> throw new IllegalArgumentException("Unsupported duplicate policy: " + duplicatePolicy);
+        }
+    }
+
+    /**
+     * Replaces the references to models that get no definition, such as excluded models or models
+     * without properties, with free-form objects, so the validation only fails on a broken document.
+     *
+     * @param definitions the definitions to be written, whose references are resolved in place
+     * @param prelude     the index of the prelude, null if there is none
+     */
+    private static void resolveMissingReferences(final Map<String, Map<String, Schema>> definitions,
+                                                 final PreludeIndex prelude) {
+        Set<String> missing = new TreeSet<>();
+        for (Map<String, Schema> definition : definitions.values()) {
+            definition.replaceAll((property, schema) -> {
+                Schema element = schema.elementSchema();
+                if (!element.isRef() || definitions.containsKey(element.ref())
+                        || (prelude != null && prelude.names().contains(element.ref()))) {
+                    return schema;
+                }
+                missing.add(element.ref());
+                return withoutReference(schema);
+            });
+        }
+        if (!missing.isEmpty()) {
+            log.warn("Referenced models without a definition, written as free-form objects: {}", missing);
+        }
+    }
+
+    /**
+     * Returns the schema with its reference, or the reference of its innermost items, replaced by a free-form object.
+     */
+    private static Schema withoutReference(final Schema schema) {
+        return schema.isArray() ? Schema.arrayOf(withoutReference(schema.items())) : Schema.OBJECT;
+    }
+
+    /**
+     * Writes the root document: header, prelude and the definitions, either in full or, when
+     * shard references are given, as references to the shard files. The additional formats are
+     * written in the same traversal, always in full. The documents of a locale other than the
+     * primary one are written next to the primary documents, named after the locale. The documents
+     * are finished in their temporary files and added to the written ones, to be committed later.
+     *
+     * @return the size of the written files in bytes
+     */
+    private long writeDocument(final Map<String, Map<String, Schema>> definitions, final Path target,
+                               final Map<String, String> shardRefs, final PreludeIndex prelude,
+                               final Set<String> skippedPrelude, final Localization localization,
+                               final List<AbstractSpecWriter> written) throws IOException {
+        List<AbstractSpecWriter> writers = new ArrayList<>();
+        YamlSpecWriter document = YamlSpecWriter.open(localization.resolve(target));
+        writers.add(document);
+        written.add(document);
+        for (SpecFormat format : this.additionalFormats()) {
+            Path formatTarget = localization.resolve(format.resolve(target));
+            AbstractSpecWriter writer = format.isJson() ? JsonSpecWriter.open(formatTarget, format)
+                    : YamlSpecWriter.open(formatTarget, format);
+            writers.add(writer);
+            written.add(writer);
+        }
+
+        // Write basic Swagger information such as version, description, and title, and the initial definitions
+        for (SpecWriter writer : writers) {
+            writer.writeHeader("API TRON Objects", "API TRON Objects", "1.0.0");
+            if (prelude != null) {
+                writer.writePrelude(prelude, skippedPrelude);
+            }
+        }
+
+        // Write each model's name and structure (type: object) to every format, or its reference to the shard holding it
+        for (Map.Entry<String, Map<String, Schema>> definition : definitions.entrySet()) {
+            for (SpecWriter writer : writers) {
+                if (shardRefs != null && writer == document) {
+                    document.writeDefinitionRef(definition.getKey(), shardRefs.get(definition.getKey()));
+                } else {
+                    this.writeDefinition(writer, definition.getKey(), definition.getValue(), localization);
+                }
+            }
+        }
+
+        long bytes = 0;
+        for (AbstractSpecWriter writer : writers) {
+            bytes += Files.size(writer.finish());
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the configured formats other than the Swagger 2.0 YAML document.
+     */
+    private List<SpecFormat> additionalFormats() {
+        return formats.stream().filter(format -> !format.isBlank()).map(SpecFormat::of)
+                .filter(format -> format != SpecFormat.SWAGGER2_YAML).distinct().toList();
+    }
+
+    /**
+     * Closes every writer, discarding the uncommitted documents, even if closing one of them fails.
+     */
+    private static void closeAll(final List<? extends SpecWriter> writers) throws IOException {
+        IOException failure = null;
+        for (SpecWriter writer : writers) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes the definitions to one file per package, in parallel, and then the root document
+     * referencing them. Definitions without a known package (referenced classes outside the
+     * scanned sources) share the {@value #SHARED_SHARD} shard.
+     *
+     * @return the total size of the written files in bytes
+     */
+    private long writeShards(final Map<String, Map<String, Schema>> definitions,
+                             final Map<String, String> classPackageMap, final Path root,
+                             final PreludeIndex prelude, final Set<String> skippedPrelude,
+                             final Localization localization, final List<AbstractSpecWriter> written)
+            throws IOException {
+        Path shardsDir = root.toAbsolutePath().resolveSibling(shardsDirName);
+        Files.createDirectories(shardsDir);
+
+        // Group the definitions by package, "default" cannot be a package name
+        Map<String, Map<String, Map<String, Schema>>> shards = new TreeMap<>();
+        Map<String, String> shardFiles = new HashMap<>();
+        definitions.forEach((name, definition) -> {
+            String packageName = classPackageMap.get(name);
+            String shard = (packageName == null || packageName.isEmpty() ? SHARED_SHARD : packageName) + ".yaml";
+            shards.computeIfAbsent(shard, key -> new TreeMap<>()).put(name, definition);
+            shardFiles.put(name, shard);
+        });
+
+        // References from a shard: same shard, another shard, or the prelude of the root document
+        String rootFromShards = shardsDir.relativize(root.toAbsolutePath()).toString().replace('\\', '/');
+        Map<String, String> shardRefs = new HashMap<>();
+        shardFiles.forEach((name, shard) -> shardRefs.put(name,
+                shardsDirName + "/" + shard + YamlSpecWriter.localRef(name)));
+
+        // Render and write the shards concurrently
+        long shardBytes;
+        try {
+            shardBytes = shards.entrySet().parallelStream().mapToLong(shard -> {
+                try {
+                    return this.writeShard(shardsDir.resolve(shard.getKey()), shard.getValue(), localization, written, name -> {
+                        String shardFile = shardFiles.get(name);
+                        if (shardFile == null) {
+                            return rootFromShards + YamlSpecWriter.localRef(name);
+                        }
+                        return shardFile.equals(shard.getKey())
+                                ? YamlSpecWriter.localRef(name)
+                                : shardFile + YamlSpecWriter.localRef(name);
+                    });
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).sum();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("{} definitions written to {} shards in {}", definitions.size(), shards.size(), shardsDir);
+
+        return shardBytes + this.writeDocument(definitions, root, shardRefs, prelude, skippedPrelude, localization,
+                written);
+    }
+
+    /**
+     * Writes a shard file holding the given definitions only, finished in its temporary file and
+     * added to the written documents.
+     *
+     * @return the size of the written file in bytes
+     */
+    private long writeShard(final Path target, final Map<String, Map<String, Schema>> definitions,
+                            final Localization localization, final List<AbstractSpecWriter> written,
+                            final Function<String, String> refResolver) throws IOException {
+        YamlSpecWriter writer = YamlSpecWriter.open(target);
+        written.add(writer);
+        writer.setRefResolver(refResolver);
+        writer.writeDefinitionsHeader();
+        for (Map.Entry<String, Map<String, Schema>> definition : definitions.entrySet()) {
+            this.writeDefinition(writer, definition.getKey(), definition.getValue(), localization);
+        }
+        return Files.size(writer.finish());
+    }
+
+    /**
+     * Deletes the shard files of the packages that are gone, once the new shards are published, and records
+     * the new shards in the {@value #SHARD_INDEX} file. Only the shards recorded by the previous run are
+     * deleted, so the other files of the directory are left untouched.
+     */
+    private void deleteStaleShards(final Path root, final List<AbstractSpecWriter> written) throws IOException {
+        Path shardsDir = root.toAbsolutePath().resolveSibling(shardsDirName);
+        Path index = shardsDir.resolve(SHARD_INDEX);
+        Set<String> shards = new TreeSet<>();
+        for (AbstractSpecWriter writer : written) {
+            if (shardsDir.equals(writer.target().getParent())) {
+                shards.add(writer.target().getFileName().toString());
+            }
+        }
+
+        if (Files.exists(index)) {
+            for (String shard : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+                // A name leading out of the directory is not a shard of ours
+                Path stale = shardsDir.resolve(shard);
+                if (!shard.isBlank() && !shards.contains(shard) && shardsDir.equals(stale.getParent())
+                        && Files.deleteIfExists(stale)) {
+                    log.info("Stale shard deleted: {}", stale);
+                }
+            }
+        }
+
+        Path temp = FileUtils.createTempFile(index);
+        Files.write(temp, shards, StandardCharsets.UTF_8);
+        Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Validates the written Swagger 2.0 YAML documents in their temporary files: the root document, the
+     * documents of the other locales and, in the {@code sharded} layout, its shard files.
+     *
+     * @throws IllegalStateException if a problem is found, with a compact report
+     */
+    private void validate(final List<AbstractSpecWriter> written) throws IOException {
+        try (GenerationMetrics.Phase phase = generationMetrics.phase("validate")) {
+            Map<Path, Path> files = new TreeMap<>();
+            for (AbstractSpecWriter writer : written) {
+                if (writer.format() == SpecFormat.SWAGGER2_YAML) {
+                    files.put(writer.target(), writer.finish());
+                }
+            }
+            SpecValidator.Report report = SpecValidator.validate(files);
+            phase.items(report.references());
+            if (!report.isValid()) {
+                throw new IllegalStateException("Generated Swagger file is not valid: " + report.summary());
+            }
+            log.info("Swagger file validated: {} definitions, {} references in {} files",
+                    report.definitions(), report.references(), report.files());
+        }
+    }
+
+    /**
+     * Writes a model definition and its properties, described in the locale of the document.
+     */
+    private void writeDefinition(final SpecWriter writer, final String name, final Map<String, Schema> definition,
+                                 final Localization localization) throws IOException {
+        writer.beginDefinition(name);
+        for (Map.Entry<String, Schema> entry : definition.entrySet()) {
+            writer.writeProperty(entry.getKey(), localization.describe(entry.getKey(), entry.getValue()),
+                    localization.translations(entry.getKey(), entry.getValue()));
+        }
+        writer.endDefinition();
+    }
+
+    /**
+     * Collects the distinct names of the simple properties (those that are neither arrays nor
+     * references) of every model that will be written, so their descriptions can be looked up at once.
+     *
+     * @param models the map of models to be written
+     * @return the distinct names of the simple properties
+     */
+    private Set<String> collectSimpleProperties(final Map<String, Map<String, Schema>> models) {
+        Set<String> simpleProperties = new HashSet<>();
+        models.forEach((modelName, properties) -> {
+            if (properties != null && !modelFilter.excludesModel(modelName)) {
+                properties.forEach((property, schema) -> {
+                    if (!schema.isArray() && !schema.isRef() && !modelFilter.excludesProperty(property)) {
+                        simpleProperties.add(property);
+                    }
+                });
+            }
+        });
+        return simpleProperties;
+    }
+
+    /**
+     * Descriptions of a document: those of one locale and, in the {@code extensions} mode, the
+     * translations to the other locales. The definitions hold the descriptions of the primary locale.
+     *
+     * @param descriptions the descriptions of every locale
+     * @param locale       the position of the locale of the document, 0 for the primary locale
+     * @param translations whether the translations are written as vendor extensions
+     */
+    private record Localization(LocalizedDescriptions descriptions, int locale, boolean translations) {
+
+        /**
+         * Returns the schema of a property described in the locale of the document, keeping the
+         * description of the primary locale when there is none in that locale.
+         */
+        Schema describe(final String property, final Schema schema) {
+            if (locale == 0 || schema.isArray() || schema.isRef()) {
+                return schema;
+            }
+            String text = descriptions.text(property, locale);
+            return text != null ? schema.withDescription(text) : schema;
+        }
+
+        /**
+         * Returns the translations of the description of a property, empty if they are not written.
+         */
+        Map<String, String> translations(final String property, final Schema schema) {
+            return translations && !schema.isArray() && !schema.isRef()
+                    ? descriptions.translations(property) : Map.of();
+        }
+
+        /**
+         * Returns the file of the document in the locale, named after the file of the primary document.
+         */
+        Path resolve(final Path file) {
+            if (locale == 0) {
+                return file;
+            }
+            String fileName = file.getFileName().toString();
+            int dot = fileName.lastIndexOf('.');
+            String suffix = "_" + descriptions.locales().get(locale);
+            return file.resolveSibling(dot > 0
+                    ? fileName.substring(0, dot) + suffix + fileName.substring(dot)
+                    : fileName + suffix);
+        }
     }
 
-}
\ No newline at end of file
+}
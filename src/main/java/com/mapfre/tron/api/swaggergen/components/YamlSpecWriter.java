@@ -0,0 +1,388 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import com.mapfre.tron.api.swaggergen.model.Schema;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming writer of Swagger 2.0 and OpenAPI 3 YAML documents. OpenAPI 3 documents nest the
+ * models under {@code components/schemas}, so their prelude is re-indented line by line.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:37
+ * @since jdk 1.17
+ */
+public class YamlSpecWriter extends AbstractSpecWriter {
+
+    /**
+     * Indentation of the keys of a property schema, as a level of {@link #INDENTS}.
+     */
+    private static final int PROPERTY_INDENT = 4;
+
+    /**
+     * Indentation strings by nesting level, two spaces per level.
+     */
+    private static final String[] INDENTS = {"", "  ", "    ", "      ", "        ", "          ", "            ",
+            "              ", "                "};
+
+    /**
+     * Scalars that can be written without quotes: no leading indicator or surrounding spaces,
+     * no {@code ": "} or {@code " #"} sequences and no trailing colon.
+     */
+    private static final Pattern PLAIN_SCALAR =
+            Pattern.compile("^(?![-?:,\\[\\]{}#&*!|>'\"%@`\\s])(?!.*(: | #|:$|\\s$)).+$");
+
+    /**
+     * Plain scalars that YAML would read as booleans, nulls or numbers.
+     */
+    private static final Pattern RESERVED_SCALAR =
+            Pattern.compile("(?i)^(true|false|yes|no|on|off|y|n|null|~|[-+]?(\\.?[0-9].*|\\.inf|\\.nan))$");
+
+    /**
+     * Indentation of the model names: one level under {@code definitions}, two under {@code components/schemas}.
+     */
+    private final int nameIndent;
+
+    /**
+     * Resolves the name of a referenced definition to the reference written in the document.
+     */
+    private Function<String, String> refResolver;
+
+    // Whether the current definition has no property written yet
+    private boolean emptyDefinition;
+
+    private YamlSpecWriter(final Path target, final SpecFormat format) throws IOException {
+        super(target, format);
+        this.nameIndent = format.isOpenApi() ? 2 : 1;
+        this.refResolver = name -> format.refPrefix() + name;
+    }
+
+    private YamlSpecWriter(final Writer writer) {
+        super(writer, SpecFormat.SWAGGER2_YAML);
+        this.nameIndent = 1;
+        this.refResolver = YamlSpecWriter::localRef;
+    }
+
+    /**
+     * Opens a Swagger 2.0 writer for the given target file.
+     *
+     * @param target the file where the document will be written on commit
+     * @return the writer
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static YamlSpecWriter open(final Path target) throws IOException {
+        return new YamlSpecWriter(target, SpecFormat.SWAGGER2_YAML);
+    }
+
+    /**
+     * Opens a writer of the given YAML format for the given target file.
+     *
+     * @param target the file where the document will be written on commit
+     * @param format {@link SpecFormat#SWAGGER2_YAML} or {@link SpecFormat#OPENAPI3_YAML}
+     * @return the writer
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static YamlSpecWriter open(final Path target, final SpecFormat format) throws IOException {
+        if (format.isJson()) {
+            throw new IllegalArgumentException("Not a YAML format: " + format);
+        }
+        return new YamlSpecWriter(target, format);
+    }
+
+    /**
+     * Sets how references are written, for documents whose definitions are split across files.
+     *
+     * @param refResolver function from the name of a referenced definition to its reference
+     */
+    public void setRefResolver(final Function<String, String> refResolver) {
+        this.refResolver = refResolver;
+    }
+
+    /**
+     * Returns the reference of a definition in the same document.
+     *
+     * @param name the definition name
+     * @return the reference, such as {@code #/definitions/Model}
+     */
+    public static String localRef(final String name) {
+        return "#/definitions/" + name;
+    }
+
+    /**
+     * Renders a single definition, as it is written in the definitions section of a document.
+     *
+     * @param name       the model name
+     * @param properties the property schemas of the model, in the order they are written
+     * @return the rendered definition
+     */
+    public static String renderDefinition(final String name, final Map<String, Schema> properties) {
+        StringWriter out = new StringWriter(64 + properties.size() * 64);
+        YamlSpecWriter writer = new YamlSpecWriter(out);
+        try {
+            writer.beginDefinition(name);
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                writer.writeProperty(property.getKey(), property.getValue());
+            }
+            writer.endDefinition();
+        } catch (IOException e) {
+            // A StringWriter does not throw
+            throw new IllegalStateException(e);
+        }
+        return out.toString();
+    }
+
+    @Override
+    public void writeHeader(final String title, final String description, final String version) throws IOException {
+        writer.write(format.isOpenApi() ? "openapi: 3.0.3\n" : "swagger: '2.0'\n");
+        writer.write("info:\n  description: ");
+        writer.write(quoted(description));
+        writer.write("\n  version: ");
+        writer.write(quoted(version));
+        writer.write("\n  title: ");
+        writer.write(quoted(title));
+        writer.write(format.isOpenApi() ? "\npaths: {}\ncomponents:\n  schemas:\n" : "\npaths: {}\ndefinitions:\n");
+    }
+
+    /**
+     * Starts the definitions section of a document that holds definitions only.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeDefinitionsHeader() throws IOException {
+        writer.write("definitions:\n");
+    }
+
+    /**
+     * Transfers a file of already rendered definitions into the definitions section, channel to
+     * channel and without decoding it, leaving out the given definitions. In OpenAPI 3 documents the
+     * definitions are decoded and re-indented, and their references rewritten.
+     *
+     * @param prelude the index of the file with the rendered definitions
+     * @param skipped the names of the definitions to leave out
+     * @throws IOException if an I/O error occurs while reading or writing
+     */
+    @Override
+    public void writePrelude(final PreludeIndex prelude, final Set<String> skipped) throws IOException {
+        if (format.isOpenApi()) {
+            for (String line : prelude.content(skipped).split("\r?\n")) {
+                if (!line.isBlank()) {
+                    writer.write("  ");
+                    writer.write(line.replace(SpecFormat.SWAGGER2_YAML.refPrefix(), format.refPrefix()));
+                }
+                writer.write('\n');
+            }
+            return;
+        }
+
+        // Everything written so far must reach the channel before the transferred bytes
+        writer.flush();
+        FileChannel channel = this.channel();
+        try (FileChannel source = FileChannel.open(prelude.path(), StandardOpenOption.READ)) {
+            for (long[] range : prelude.ranges(skipped)) {
+                long position = range[0];
+                while (position < range[1]) {
+                    long transferred = source.transferTo(position, range[1] - position, channel);
+                    if (transferred <= 0) {
+                        throw new IOException("Prelude changed while being copied: " + prelude.path());
+                    }
+                    position += transferred;
+                }
+            }
+        }
+        if (!prelude.endsWithNewline()) {
+            writer.write('\n');
+        }
+    }
+
+    @Override
+    public void beginDefinition(final String name) throws IOException {
+        writer.write(indent(nameIndent));
+        writer.write(name);
+        writer.write(":\n");
+        writer.write(indent(nameIndent + 1));
+        writer.write("type: object\n");
+        emptyDefinition = true;
+    }
+
+    @Override
+    public void endDefinition() throws IOException {
+        // The indentation ends the definition, a definition without properties gets an empty mapping, not a null one
+        if (emptyDefinition) {
+            writer.write(indent(nameIndent + 1));
+            writer.write("properties: {}\n");
+            emptyDefinition = false;
+        }
+    }
+
+    /**
+     * Writes a definition that references a definition of another document.
+     *
+     * @param name the model name
+     * @param ref  the reference to the definition
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeDefinitionRef(final String name, final String ref) throws IOException {
+        writer.write(indent(nameIndent));
+        writer.write(name);
+        writer.write(":\n");
+        writer.write(indent(nameIndent + 1));
+        writer.write("$ref: ");
+        writer.write(quoted(ref));
+        writer.write('\n');
+    }
+
+    /**
+     * Writes a property, its schema and the translations of its description in a single pass.
+     *
+     * @param name         the property name
+     * @param schema       the property schema
+     * @param translations the description in the other locales, by locale; empty to write none
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void writeProperty(final String name, final Schema schema, final Map<String, String> translations)
+            throws IOException {
+        int indent = PROPERTY_INDENT + nameIndent - 1;
+        if (emptyDefinition) {
+            writer.write(indent(nameIndent + 1));
+            writer.write("properties:\n");
+            emptyDefinition = false;
+        }
+        this.writePropertyName(name);
+        this.writeSchema(schema, indent);
+        if (!translations.isEmpty()) {
+            writer.write(indent(indent));
+            writer.write(TRANSLATIONS);
+            writer.write(":\n");
+            for (Map.Entry<String, String> translation : translations.entrySet()) {
+                writer.write(indent(indent + 1));
+                writer.write(scalar(translation.getKey()));
+                writer.write(": ");
+                writer.write(scalar(translation.getValue()));
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Writes the keys of a schema at the given indentation, nesting the item and value schemas
+     * and listing the allowed values.
+     */
+    private void writeSchema(final Schema schema, final int indent) throws IOException {
+        if (schema.isRef()) {
+            writer.write(indent(indent));
+            writer.write("$ref: ");
+            writer.write(quoted(refResolver.apply(schema.ref())));
+            writer.write('\n');
+            return;
+        }
+        writer.write(indent(indent));
+        writer.write("type: ");
+        writer.write(schema.type());
+        writer.write('\n');
+        if (schema.format() != null) {
+            writer.write(indent(indent));
+            writer.write("format: ");
+            writer.write(schema.format());
+            writer.write('\n');
+        }
+        if (schema.items() != null) {
+            writer.write(indent(indent));
+            writer.write("items:\n");
+            this.writeSchema(schema.items(), indent + 1);
+        }
+        if (schema.additionalProperties() != null) {
+            writer.write(indent(indent));
+            writer.write("additionalProperties:\n");
+            this.writeSchema(schema.additionalProperties(), indent + 1);
+        }
+        if (schema.enumValues() != null) {
+            writer.write(indent(indent));
+            writer.write("enum:\n");
+            for (String value : schema.enumValues()) {
+                writer.write(indent(indent + 1));
+                writer.write("- ");
+                writer.write(scalar(value));
+                writer.write('\n');
+            }
+        }
+        if (schema.description() != null) {
+            writer.write(indent(indent));
+            writer.write("description: ");
+            writer.write(scalar(schema.description()));
+            writer.write('\n');
+        }
+    }
+
+    private static String indent(final int level) {
+        return level < INDENTS.length ? INDENTS[level] : "  ".repeat(level);
+    }
+
+    private void writePropertyName(final String name) throws IOException {
+        writer.write(indent(nameIndent + 2));
+        writer.write(name);
+        writer.write(":\n");
+    }
+
+    /**
+     * Renders a YAML scalar, quoting it only when it could not be read back as the same string.
+     * Scalars with control characters are double-quoted and escaped, other unsafe scalars
+     * are single-quoted.
+     *
+     * @param value the value to render
+     * @return the YAML scalar
+     */
+    public static String scalar(final String value) {
+        if (PLAIN_SCALAR.matcher(value).matches() && !RESERVED_SCALAR.matcher(value).matches()) {
+            return value;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isISOControl(value.charAt(i))) {
+                return doubleQuoted(value);
+            }
+        }
+        return quoted(value);
+    }
+
+    /**
+     * Renders a single-quoted YAML scalar.
+     *
+     * @param value the value to render
+     * @return the scalar between single quotes, with embedded quotes doubled
+     */
+    public static String quoted(final String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+
+    private static String doubleQuoted(final String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 8).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (Character.isISOControl(c)) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.mapfre.tron.api.swaggergen.config;
+
+import com.mapfre.tron.api.swaggergen.components.ModelFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Configuration class for the rules excluding classes and fields from the generated document.
+ * <p>
+ * The rules are read from the {@code app.filter.*} properties and compiled once into a
+ * {@link ModelFilter}, shared by the scan, the analyzers and the generator. The class names
+ * default to the former {@code app.env.excludedClasses} list and {@code atrPT}, whose lists are
+ * not modeled.
+ * <p>
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:40
+ * @since jdk 1.17
+ */
+@Configuration
+@Slf4j
+public class FilterConfig {
+
+    /**
+     * Defines the {@link ModelFilter} bean compiled from the configured rules.
+     *
+     * @param classes     globs on the simple class names to exclude
+     * @param packages    package prefixes to exclude
+     * @param annotations names of the annotations excluding a class or field
+     * @param fields      globs on the field names to exclude
+     * @param modifiers   field modifiers to exclude (static, transient)
+     * @return the compiled filter
+     */
+    @Bean
+    public ModelFilter modelFilter(@Value("${app.filter.classes:${app.env.excludedClasses:},atrPT}") List<String> classes,
+                                   @Value("${app.filter.packages:}") List<String> packages,
+                                   @Value("${app.filter.annotations:}") List<String> annotations,
+                                   @Value("${app.filter.fields:atrPT,oTrnPrcS,serialVersionUID}") List<String> fields,
+                                   @Value("${app.filter.modifiers:}") List<String> modifiers) {
+        // Compiles the rules once, they are applied to every class and field
+        ModelFilter modelFilter = ModelFilter.compile(classes, packages, annotations, fields, modifiers);
+        log.info("Model filter: {}", modelFilter);
+        return modelFilter;
+    }
+
+}
@@ -1,7 +1,11 @@
 package com.mapfre.tron.api.swaggergen.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import javax.sql.DataSource;
@@ -12,23 +16,40 @@ import javax.sql.DataSource;
  * This class provides a bean configuration for {@link JdbcTemplate}, enabling
  * it to perform database operations using a specified {@link DataSource}.
  * <p>
+ * The data source is declared lazy and injected lazily: the template holds a proxy, and the data
+ * source (driver and connection pool) is only created on the first query, which may never happen
+ * when every description is resolved from the cache or the snapshot.
+ * <p>
  *
  * @author architecture - rperezv
- * @version 25/10/2024 - 12:44
+ * @version 16/10/2026 - 22:25
  * @since jdk 1.17
  */
 @Configuration
 public class JdbcConfig {
 
+    /**
+     * Defines the pooled {@link DataSource} from the {@code spring.datasource} properties, created on first use.
+     *
+     * @param properties the data source properties
+     * @return the connection pool
+     */
+    @Bean
+    @Lazy
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
     /**
      * Defines the {@link JdbcTemplate} bean for performing SQL operations
      * using the given {@link DataSource}.
      *
-     * @param dataSource the data source used for database connections
+     * @param dataSource the data source used for database connections, resolved on first use
      * @return a configured instance of {@link JdbcTemplate}
      */
     @Bean
-    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+    public JdbcTemplate jdbcTemplate(@Lazy DataSource dataSource) {
         // Creates and returns a JdbcTemplate with the specified DataSource
         return new JdbcTemplate(dataSource);
     }
@@ -0,0 +1,40 @@
+package com.mapfre.tron.api.swaggergen.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the Micrometer registry holding the generation metrics.
+ * <p>
+ * Without Spring Boot Actuator no registry is auto-configured, so an in-memory
+ * {@link SimpleMeterRegistry} is provided and every {@link MeterBinder} bean is bound to it.
+ * <p>
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 20:38
+ * @since jdk 1.17
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Defines the {@link MeterRegistry} bean where the generation metrics are recorded.
+     *
+     * @param binders the meter binders to bind to the registry
+     * @return an in-memory meter registry
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MeterRegistry meterRegistry(ObjectProvider<MeterBinder> binders) {
+        // Creates the registry and binds the application meters
+        MeterRegistry registry = new SimpleMeterRegistry();
+        binders.orderedStream().forEach(binder -> binder.bindTo(registry));
+        return registry;
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.mapfre.tron.api.swaggergen.entity;
+
+import java.util.Arrays;
+
+/**
+ * Compact, immutable description of a property as held in the description cache.
+ * <p>
+ * The texts are indexed by the position of their locale in the configured locales, so a
+ * property holds every translation in a single array. Properties without description in any
+ * locale share the {@link #NONE} instance, so "no description" results can be cached explicitly
+ * without allocating a value per property.
+ *
+ * @param texts the description texts by locale position, {@code null} where the locale has none;
+ *              it must not be modified
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 21:09
+ * @since jdk 1.17
+ */
+public record Description(String[] texts) {
+
+    /**
+     * Shared value for the properties without description.
+     */
+    public static final Description NONE = new Description(new String[0]);
+
+    /**
+     * Creates a description with one text per locale, returning {@link #NONE} when every text
+     * is null or blank. Blank texts are stored as null.
+     *
+     * @param texts the description texts by locale position
+     * @return the description
+     */
+    public static Description of(final String... texts) {
+        if (texts == null) {
+            return NONE;
+        }
+        String[] normalized = new String[texts.length];
+        boolean present = false;
+        for (int i = 0; i < texts.length; i++) {
+            if (texts[i] != null && !texts[i].isBlank()) {
+                normalized[i] = texts[i];
+                present = true;
+            }
+        }
+        return present ? new Description(normalized) : NONE;
+    }
+
+    /**
+     * Checks whether the property has a description in any locale.
+     *
+     * @return true if there is a description text
+     */
+    public boolean isPresent() {
+        return texts.length > 0;
+    }
+
+    /**
+     * Returns the description in the first locale.
+     *
+     * @return the description text, {@code null} if there is none
+     */
+    public String text() {
+        return this.text(0);
+    }
+
+    /**
+     * Returns the description in the given locale.
+     *
+     * @param locale the position of the locale in the configured locales
+     * @return the description text, {@code null} if there is none in that locale
+     */
+    public String text(final int locale) {
+        return locale < texts.length ? texts[locale] : null;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof Description description && Arrays.equals(texts, description.texts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(texts);
+    }
+
+    @Override
+    public String toString() {
+        return "Description" + Arrays.toString(texts);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.mapfre.tron.api.swaggergen.entity;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Descriptions of a set of properties in every requested locale, resolved in a single lookup.
+ * <p>
+ * The table holds one {@link Description} per property name, its texts indexed by the position
+ * of their locale in {@link #locales()}; the first locale is the primary one. Properties without
+ * description in any locale are left out.
+ *
+ * @param locales        the locales, primary first
+ * @param descriptionMap the description of each property name that has one
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 21:09
+ * @since jdk 1.17
+ */
+public record LocalizedDescriptions(List<String> locales, Map<String, Description> descriptionMap) {
+
+    public LocalizedDescriptions {
+        locales = List.copyOf(locales);
+        descriptionMap = Collections.unmodifiableMap(descriptionMap);
+    }
+
+    /**
+     * Returns the description of a property in the given locale.
+     *
+     * @param name   the property name
+     * @param locale the position of the locale in {@link #locales()}
+     * @return the description text, {@code null} if there is none in that locale
+     */
+    public String text(final String name, final int locale) {
+        Description description = descriptionMap.get(name);
+        return description != null ? description.text(locale) : null;
+    }
+
+    /**
+     * Returns the descriptions in one locale.
+     *
+     * @param locale the position of the locale in {@link #locales()}
+     * @return a map of property name to description, containing only the properties described in that locale
+     */
+    public Map<String, String> forLocale(final int locale) {
+        Map<String, String> texts = new HashMap<>();
+        descriptionMap.forEach((name, description) -> {
+            String text = description.text(locale);
+            if (text != null) {
+                texts.put(name, text);
+            }
+        });
+        return texts;
+    }
+
+    /**
+     * Returns the translations of the description of a property: its texts in every locale
+     * other than the primary one.
+     *
+     * @param name the property name
+     * @return a map of locale to description, in the order of the locales; empty if there is none
+     */
+    public Map<String, String> translations(final String name) {
+        Description description = descriptionMap.get(name);
+        if (description == null || locales.size() < 2) {
+            return Map.of();
+        }
+        Map<String, String> translations = new LinkedHashMap<>();
+        for (int locale = 1; locale < locales.size(); locale++) {
+            String text = description.text(locale);
+            if (text != null) {
+                translations.put(locales.get(locale), text);
+            }
+        }
+        return translations;
+    }
+
+}
@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
  * Created by jt, Spring Framework Guru.
  *
  * @author architecture - rperezv
- * @version 25/10/2024 - 12:51
+ * @version 16/10/2026 - 21:09
  * @since jdk 1.17
  */
 @Data
@@ -19,6 +19,7 @@ import lombok.NoArgsConstructor;
 public class Property {
 
     String name;
+    String locale;
     String description;
 
 }
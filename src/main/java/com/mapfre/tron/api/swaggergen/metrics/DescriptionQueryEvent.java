@@ -0,0 +1,43 @@
+package com.mapfre.tron.api.swaggergen.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event recorded for each set-based query of property descriptions.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 20:38
+ * @since jdk 1.17
+ */
+@Name("com.mapfre.tron.swaggergen.DescriptionQuery")
+@Label("Description Query")
+@Category({"Swaggergen"})
+@Description("A query of property descriptions to the database")
+public class DescriptionQueryEvent extends Event {
+
+    @Label("Properties")
+    int properties;
+
+    @Label("Rows")
+    int rows;
+
+    /**
+     * Ends the event and commits it, if enabled, with the query figures.
+     *
+     * @param properties the number of properties queried
+     * @param rows       the number of rows returned
+     */
+    public void commit(final int properties, final int rows) {
+        end();
+        if (shouldCommit()) {
+            this.properties = properties;
+            this.rows = rows;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.mapfre.tron.api.swaggergen.metrics;
+
+import com.mapfre.tron.api.swaggergen.components.FileUtils;
+import com.mapfre.tron.api.swaggergen.components.JsonSpecWriter;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Metrics of the generation runs.
+ * <p>
+ * Every phase is timed in the {@value #PHASE} timer (tagged by phase) and recorded as a
+ * {@link PhaseEvent} in JFR; the counters track files scanned, classes loaded, failed or referenced, fields
+ * analyzed, database queries and rows, and bytes written. All the meters live in the
+ * application {@link MeterRegistry} and can be dumped to a machine-readable summary file at
+ * the end of each run.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:46
+ * @since jdk 1.17
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GenerationMetrics {
+
+    public static final String PHASE = "swaggergen.phase";
+    public static final String FILES_SCANNED = "swaggergen.files.scanned";
+    public static final String FILES_DUPLICATED = "swaggergen.files.duplicated";
+    public static final String CLASSES_LOADED = "swaggergen.classes.loaded";
+    public static final String CLASSES_FAILED = "swaggergen.classes.failed";
+    public static final String CLASSES_REFERENCED = "swaggergen.classes.referenced";
+    public static final String FIELDS_ANALYZED = "swaggergen.fields.analyzed";
+    public static final String DB_QUERIES = "swaggergen.db.queries";
+    public static final String DB_ROWS = "swaggergen.db.rows";
+    public static final String MODELS_WRITTEN = "swaggergen.models.written";
+    public static final String BYTES_WRITTEN = "swaggergen.bytes.written";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Starts timing a phase; the phase ends when the returned handle is closed.
+     *
+     * @param phase the phase name
+     * @return the handle of the running phase
+     */
+    public Phase phase(final String phase) {
+        return new Phase(phase);
+    }
+
+    /**
+     * Increments a counter.
+     *
+     * @param name   the counter name
+     * @param amount the amount to add
+     */
+    public void count(final String name, final double amount) {
+        meterRegistry.counter(name).increment(amount);
+    }
+
+    /**
+     * Removes the generation meters from the registry, so the next run starts its counters and
+     * timers from zero. The meters of other components, such as the description cache, are kept.
+     */
+    public void reset() {
+        List<Meter> meters = meterRegistry.getMeters().stream()
+                .filter(meter -> meter.getId().getName().startsWith("swaggergen."))
+                .toList();
+        meters.forEach(meterRegistry::remove);
+    }
+
+    /**
+     * Returns the registry where the metrics are recorded.
+     *
+     * @return the meter registry
+     */
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    /**
+     * Writes every meter of the registry to a JSON summary file, replacing the previous one. Meter
+     * names and tags are rendered with {@link JsonSpecWriter#string(String)}, as tag values such as
+     * phase or cache names are free text.
+     *
+     * @param path       the summary file
+     * @param durationMs the total duration of the run in milliseconds
+     * @throws IOException if an I/O error occurs while writing the file
+     */
+    public void writeSummary(final Path path, final long durationMs) throws IOException {
+        StringBuilder json = new StringBuilder(4096)
+                .append("{\n  \"timestamp\": \"").append(Instant.now()).append("\",\n")
+                .append("  \"durationMs\": ").append(durationMs).append(",\n")
+                .append("  \"meters\": [");
+
+        List<Meter> meters = meterRegistry.getMeters().stream()
+                .sorted(Comparator.comparing((Meter meter) -> meter.getId().getName())
+                        .thenComparing(meter -> meter.getId().getTags().toString()))
+                .toList();
+        String separator = "\n";
+        for (Meter meter : meters) {
+            json.append(separator).append("    {\"name\": ").append(JsonSpecWriter.string(meter.getId().getName()))
+                    .append(", \"type\": \"").append(meter.getId().getType().name().toLowerCase()).append("\", \"tags\": {");
+            String tagSeparator = "";
+            for (Tag tag : meter.getId().getTags()) {
+                json.append(tagSeparator).append(JsonSpecWriter.string(tag.getKey())).append(": ")
+                        .append(JsonSpecWriter.string(tag.getValue()));
+                tagSeparator = ", ";
+            }
+            json.append("}");
+            for (Measurement measurement : meter.measure()) {
+                double value = measurement.getValue();
+                json.append(", ").append(JsonSpecWriter.string(measurement.getStatistic().getTagValueRepresentation()))
+                        .append(": ").append(Double.isFinite(value) ? String.valueOf(value) : "null");
+            }
+            json.append('}');
+            separator = ",\n";
+        }
+        json.append("\n  ]\n}\n");
+
+        Path target = path.toAbsolutePath();
+        Path temp = FileUtils.createTempFile(target);
+        Files.writeString(temp, json);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Metrics summary written: {}", target);
+    }
+
+    /**
+     * Running phase, timed in the {@value #PHASE} timer and recorded as a {@link PhaseEvent}.
+     */
+    public final class Phase implements AutoCloseable {
+
+        private final String name;
+
+        private final Timer.Sample sample;
+
+        private final PhaseEvent event = new PhaseEvent();
+
+        private long items;
+
+        private Phase(final String name) {
+            this.name = name;
+            this.sample = Timer.start(meterRegistry);
+            event.begin();
+        }
+
+        /**
+         * Sets the number of items processed by the phase.
+         *
+         * @param items the number of files, classes, properties or bytes processed
+         */
+        public void items(final long items) {
+            this.items = items;
+        }
+
+        @Override
+        public void close() {
+            long nanos = sample.stop(meterRegistry.timer(PHASE, "phase", name));
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = name;
+                event.items = items;
+                event.commit();
+            }
+            log.info("Phase {} finished in {} ms ({} items)", name, nanos / 1_000_000, items);
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.mapfre.tron.api.swaggergen.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event recorded for each phase of a generation run (scan, analyze, lookup, write).
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 20:38
+ * @since jdk 1.17
+ */
+@Name("com.mapfre.tron.swaggergen.Phase")
+@Label("Swagger Generation Phase")
+@Category({"Swaggergen"})
+@Description("A phase of a Swagger generation run")
+public class PhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Items")
+    @Description("Number of files, classes, properties or bytes processed by the phase")
+    long items;
+
+}
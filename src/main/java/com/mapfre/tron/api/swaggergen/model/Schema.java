@@ -0,0 +1,143 @@
+package com.mapfre.tron.api.swaggergen.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable Swagger schema of a model property.
+ * <p>
+ * A schema is either a reference to another definition ({@link #ref()} holds the definition name)
+ * or a typed schema with an optional format, item schema (arrays), value schema (maps), allowed
+ * values (enums) and description. The schemas of the primitive mappings are shared constants, so analyzing a class
+ * does not allocate a schema per simple field.
+ *
+ * @param type                 the Swagger type, null for references
+ * @param format               the Swagger format, may be null
+ * @param ref                  the name of the referenced definition, null if this is not a reference
+ * @param items                the schema of the array items, may be null
+ * @param additionalProperties the schema of the map values, may be null
+ * @param enumValues           the allowed values, in declaration order, may be null
+ * @param description          the description, may be null
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:37
+ * @since jdk 1.17
+ */
+public record Schema(String type, String format, String ref, Schema items, Schema additionalProperties,
+                     List<String> enumValues, String description) {
+
+    public static final Schema INT32 = new Schema("integer", "int32", null, null, null, null, null);
+    public static final Schema INT64 = new Schema("integer", "int64", null, null, null, null, null);
+    public static final Schema FLOAT = new Schema("number", "float", null, null, null, null, null);
+    public static final Schema DOUBLE = new Schema("number", "double", null, null, null, null, null);
+    public static final Schema NUMBER = new Schema("number", null, null, null, null, null, null);
+    public static final Schema BOOLEAN = new Schema("boolean", null, null, null, null, null, null);
+    public static final Schema STRING = new Schema("string", null, null, null, null, null, null);
+    public static final Schema BYTE = new Schema("string", "byte", null, null, null, null, null);
+    public static final Schema BINARY = new Schema("string", "binary", null, null, null, null, null);
+    public static final Schema OBJECT = new Schema("object", null, null, null, null, null, null);
+    public static final Schema MAP = new Schema("object", null, null, null, STRING, null, null);
+
+    /**
+     * Shared schemas, used to return the constant instance for a simple type and format.
+     */
+    private static final List<Schema> SIMPLE = List.of(INT32, INT64, FLOAT, DOUBLE, NUMBER, BOOLEAN, STRING, BYTE, BINARY,
+            OBJECT);
+
+    /**
+     * Returns the schema of a simple type, reusing the shared constant when there is one.
+     *
+     * @param type   the Swagger type
+     * @param format the Swagger format, may be null
+     * @return the schema
+     */
+    public static Schema simple(final String type, final String format) {
+        for (Schema schema : SIMPLE) {
+            if (schema.type.equals(type) && Objects.equals(schema.format, format)) {
+                return schema;
+            }
+        }
+        return new Schema(type, format, null, null, null, null, null);
+    }
+
+    /**
+     * Creates a reference to another definition.
+     *
+     * @param name the name of the referenced definition
+     * @return the reference schema
+     */
+    public static Schema ref(final String name) {
+        return new Schema(null, null, name, null, null, null, null);
+    }
+
+    /**
+     * Creates an array schema.
+     *
+     * @param items the schema of the array items
+     * @return the array schema
+     */
+    public static Schema arrayOf(final Schema items) {
+        return new Schema("array", null, null, items, null, null, null);
+    }
+
+    /**
+     * Creates the schema of an enumeration, a string restricted to the given values.
+     *
+     * @param values the allowed values, in declaration order
+     * @return the enumeration schema
+     */
+    public static Schema enumOf(final List<String> values) {
+        return new Schema("string", null, null, null, null, List.copyOf(values), null);
+    }
+
+    /**
+     * Returns a copy of this schema with the given description.
+     *
+     * @param text the description
+     * @return the described schema
+     */
+    public Schema withDescription(final String text) {
+        return new Schema(type, format, ref, items, additionalProperties, enumValues, text);
+    }
+
+    /**
+     * Checks whether this schema is a reference to another definition.
+     *
+     * @return true if this is a reference
+     */
+    public boolean isRef() {
+        return ref != null;
+    }
+
+    /**
+     * Checks whether this schema is an array.
+     *
+     * @return true if this is an array
+     */
+    public boolean isArray() {
+        return "array".equals(type);
+    }
+
+    /**
+     * Returns the schema of the innermost items of an array, following nested arrays, or this
+     * schema if it is not an array.
+     *
+     * @return the schema of the elements
+     */
+    public Schema elementSchema() {
+        Schema element = this;
+        while (element.isArray() && element.items != null) {
+            element = element.items;
+        }
+        return element;
+    }
+
+    /**
+     * Returns the JSON pointer of the referenced definition.
+     *
+     * @return the reference, such as {@code #/definitions/Model}
+     */
+    public String refPath() {
+        return "#/definitions/" + ref;
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.mapfre.tron.api.swaggergen.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.mapfre.tron.api.swaggergen.entity.Description;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of property descriptions, keyed by normalized property name.
+ * <p>
+ * The cache is the {@value #NAME} Caffeine cache configured through
+ * {@code spring.cache.caffeine.spec}, so size and time eviction are applied. Properties
+ * without description are cached as {@link Description#NONE}. Hit, miss, eviction and
+ * load-time statistics are recorded when the spec includes {@code recordStats}, and exposed
+ * as meters of the application registry.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 20:38
+ * @since jdk 1.17
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DescriptionCache implements MeterBinder {
+
+    /**
+     * Name of the cache holding the descriptions.
+     */
+    public static final String NAME = "descriptionByProperty";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Returns the descriptions of the given normalized property names, loading all the
+     * missing ones with a single call to the loader.
+     *
+     * @param keys   the normalized property names
+     * @param loader function that resolves a set of missing names; it must return a value for each of them
+     * @return the description of every requested name, {@link Description#NONE} when there is none
+     */
+    public Map<String, Description> getAll(final Collection<String> keys,
+                                           final Function<Set<? extends String>, Map<String, Description>> loader) {
+        return this.nativeCache().getAll(keys, loader);
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the hit, miss, eviction and load-time statistics
+     */
+    public CacheStats stats() {
+        return this.nativeCache().stats();
+    }
+
+    /**
+     * Returns the approximate number of cached descriptions.
+     *
+     * @return the estimated cache size
+     */
+    public long size() {
+        return this.nativeCache().estimatedSize();
+    }
+
+    /**
+     * Logs the cache statistics, useful to size the cache for larger model sets.
+     */
+    public void logStatistics() {
+        CacheStats stats = this.stats();
+        log.info("Description cache: size={}, hits={}, misses={}, hitRate={}, evictions={}, loads={}, loadTime={} ms",
+                this.size(), stats.hitCount(), stats.missCount(), String.format("%.2f", stats.hitRate()),
+                stats.evictionCount(), stats.loadCount(), stats.totalLoadTime() / 1_000_000);
+    }
+
+    /**
+     * Registers the cache statistics (gets, evictions, load time and hit ratio) in the given registry.
+     *
+     * @param registry the meter registry
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.nativeCache(), NAME);
+        Gauge.builder("cache.hit.ratio", this, cache -> cache.stats().hitRate())
+                .tag("cache", NAME)
+                .register(registry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<String, Description> nativeCache() {
+        org.springframework.cache.Cache cache = cacheManager.getCache(NAME);
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            throw new IllegalStateException("Cache '" + NAME + "' must be a Caffeine cache (spring.cache.type=caffeine)");
+        }
+        return (Cache<String, Description>) (Cache<?, ?>) caffeineCache.getNativeCache();
+    }
+
+}
@@ -0,0 +1,344 @@
+package com.mapfre.tron.api.swaggergen.repository;
+
+import com.mapfre.tron.api.swaggergen.components.FileUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistent store of property descriptions shared between runs.
+ * <p>
+ * The descriptions are kept in a compact binary snapshot file that is memory-mapped the first
+ * time it is needed. The snapshot is keyed by normalized property name and tagged with its
+ * creation timestamp and a fingerprint of the description source (data source and locales), so
+ * entries coming from a different database or for other locales are never reused. Properties
+ * without description are recorded as well, so they are not queried again on every run.
+ * <p>
+ * Snapshot layout: magic, version, creation timestamp, source fingerprint and entry count,
+ * followed by the entries (key, load timestamp and one description per locale, {@code -1} length
+ * meaning no description). A single-locale snapshot has the layout of the first version.
+ * <p>
+ * The mapping is released before the snapshot file is replaced, as a mapped file cannot be
+ * replaced on every platform, and the new snapshot is mapped once it is in place.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:46
+ * @since jdk 1.17
+ */
+@Component
+@Slf4j
+public class DescriptionSnapshotStore {
+
+    private static final int MAGIC = 0x53574744;
+
+    private static final int VERSION = 1;
+
+    private static final int NO_DESCRIPTION = -1;
+
+    /**
+     * Location of the snapshot file, an empty value disables the store.
+     */
+    @Value("${app.descriptions.snapshot.path:}")
+    private String snapshotPath;
+
+    /**
+     * Maximum age of an entry before it is queried again.
+     */
+    @Value("${app.descriptions.snapshot.max-age:7d}")
+    private Duration maxAge;
+
+    @Value("${spring.datasource.url:}")
+    private String dataSourceUrl;
+
+    @Value("${spring.datasource.username:}")
+    private String dataSourceUsername;
+
+    /**
+     * Locales of the descriptions, each entry holding one description per locale.
+     */
+    @Value("${app.descriptions.locales:" + OracleRepository.LOCALE + "}")
+    private List<String> locales = List.of(OracleRepository.LOCALE);
+
+    /**
+     * Offset of every entry of the mapped snapshot, by normalized property name.
+     */
+    private Map<String, Integer> offsetByKey;
+
+    private MappedByteBuffer snapshot;
+
+    /**
+     * Entries recorded during this run, not yet saved.
+     */
+    private final Map<String, Entry> pending = new HashMap<>();
+
+    private boolean loaded;
+
+    /**
+     * Checks whether the snapshot store is configured.
+     *
+     * @return true if a snapshot path is configured
+     */
+    public boolean isEnabled() {
+        return snapshotPath != null && !snapshotPath.isBlank();
+    }
+
+    /**
+     * Looks up the given normalized property names in the snapshot.
+     * <p>
+     * Fresh entries with a description are added to {@code found}; fresh entries without
+     * description are hits as well but add nothing.
+     *
+     * @param keys       the normalized property names to look up
+     * @param found      map that receives the descriptions found by locale position, by normalized property name
+     * @param allowStale whether entries older than the maximum age may be used (offline mode)
+     * @return the normalized property names that are missing or stale
+     */
+    public synchronized List<String> lookup(final Collection<String> keys, final Map<String, String[]> found,
+                                            final boolean allowStale) {
+        List<String> misses = new ArrayList<>();
+        if (!isEnabled()) {
+            misses.addAll(keys);
+            return misses;
+        }
+        this.load();
+
+        long oldest = System.currentTimeMillis() - maxAge.toMillis();
+        for (String key : keys) {
+            Entry entry = this.find(key);
+            if (entry == null || (!allowStale && entry.loadedAt() < oldest)) {
+                misses.add(key);
+            } else if (entry.isPresent()) {
+                found.put(key, entry.descriptions());
+            }
+        }
+        return misses;
+    }
+
+    /**
+     * Records the result of a lookup, including the names that have no description.
+     *
+     * @param keys         the normalized property names that were queried
+     * @param descriptions the descriptions found by locale position, by normalized property name
+     */
+    public synchronized void record(final Collection<String> keys, final Map<String, String[]> descriptions) {
+        if (!isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        String[] none = new String[locales.size()];
+        keys.forEach(key -> pending.put(key, new Entry(now, descriptions.getOrDefault(key, none))));
+    }
+
+    /**
+     * Writes the snapshot (previous entries merged with the ones recorded in this run)
+     * to a temporary file and atomically replaces the previous snapshot, which is mapped again.
+     * The recorded entries are kept if the snapshot cannot be replaced.
+     *
+     * @throws IOException if an I/O error occurs while writing the snapshot
+     */
+    public synchronized void save() throws IOException {
+        if (!isEnabled() || pending.isEmpty()) {
+            return;
+        }
+        this.load();
+
+        // Merge the mapped entries with the ones recorded in this run
+        Map<String, Entry> entries = new HashMap<>();
+        offsetByKey.keySet().forEach(key -> entries.put(key, this.read(offsetByKey.get(key))));
+        entries.putAll(pending);
+
+        Path path = Paths.get(snapshotPath).toAbsolutePath();
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path temp = FileUtils.createTempFile(path);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(System.currentTimeMillis());
+            out.writeLong(this.fingerprint());
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeLong(entry.getValue().loadedAt());
+                for (String description : entry.getValue().descriptions()) {
+                    writeString(out, description);
+                }
+            }
+        }
+        this.unload();
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        pending.clear();
+
+        log.info("Description snapshot saved: {} entries in {}", entries.size(), path);
+        this.load();
+    }
+
+    /**
+     * Maps the snapshot file, if present, and indexes its entries. A snapshot written for a
+     * different source or with an unknown layout is ignored.
+     */
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        offsetByKey = new HashMap<>();
+
+        Path path = Paths.get(snapshotPath);
+        if (!Files.isRegularFile(path)) {
+            log.info("Description snapshot not found: {}", path);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            snapshot = buffer;
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                log.warn("Description snapshot ignored, unknown format: {}", path);
+                this.unload();
+                loaded = true;
+                return;
+            }
+            long createdAt = buffer.getLong();
+            if (buffer.getLong() != this.fingerprint()) {
+                log.warn("Description snapshot ignored, created for a different source: {}", path);
+                this.unload();
+                loaded = true;
+                return;
+            }
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                String key = readString(buffer);
+                offsetByKey.put(key, buffer.position());
+                buffer.position(buffer.position() + Long.BYTES);
+                for (int locale = 0; locale < locales.size(); locale++) {
+                    int length = buffer.getInt();
+                    buffer.position(buffer.position() + Math.max(length, 0));
+                }
+            }
+            log.info("Description snapshot loaded: {} entries created at {}", count, Instant.ofEpochMilli(createdAt));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Description snapshot ignored, unreadable: {}", path, e);
+            this.unload();
+            loaded = true;
+        }
+    }
+
+    /**
+     * Forgets the mapped snapshot and releases its mapping right away, rather than when the buffer
+     * is collected, so the file can be replaced; the next lookup maps the file again.
+     */
+    private void unload() {
+        MappedByteBuffer buffer = snapshot;
+        snapshot = null;
+        offsetByKey = new HashMap<>();
+        loaded = false;
+        if (buffer == null) {
+            return;
+        }
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Description snapshot mapping left to the garbage collector", e);
+        }
+    }
+
+    private Entry find(final String key) {
+        Entry entry = pending.get(key);
+        if (entry == null) {
+            Integer offset = offsetByKey.get(key);
+            entry = offset != null ? this.read(offset) : null;
+        }
+        return entry;
+    }
+
+    private Entry read(final int offset) {
+        ByteBuffer buffer = snapshot.duplicate();
+        buffer.position(offset);
+        long loadedAt = buffer.getLong();
+        String[] descriptions = new String[locales.size()];
+        for (int locale = 0; locale < descriptions.length; locale++) {
+            descriptions[locale] = readString(buffer);
+        }
+        return new Entry(loadedAt, descriptions);
+    }
+
+    /**
+     * Computes the fingerprint of the description source, so a snapshot is only reused
+     * against the same database, schema and locales. A single locale gives the fingerprint of the
+     * first version, so its snapshots are still reused.
+     */
+    private long fingerprint() {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((dataSourceUrl + '|' + dataSourceUsername + '|' + String.join(",", locales))
+                            .getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NO_DESCRIPTION);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NO_DESCRIPTION) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Snapshot entry: load timestamp and description by locale position, {@code null} where the
+     * property has none.
+     */
+    private record Entry(long loadedAt, String[] descriptions) {
+
+        boolean isPresent() {
+            for (String description : descriptions) {
+                if (description != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
@@ -1,12 +1,26 @@
 package com.mapfre.tron.api.swaggergen.repository;
 
+import com.mapfre.tron.api.swaggergen.entity.Description;
+import com.mapfre.tron.api.swaggergen.entity.LocalizedDescriptions;
 import com.mapfre.tron.api.swaggergen.entity.Property;
+import com.mapfre.tron.api.swaggergen.metrics.DescriptionQueryEvent;
+import com.mapfre.tron.api.swaggergen.metrics.GenerationMetrics;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Repository for accessing Property data from an Oracle database.
@@ -14,57 +28,262 @@ import java.util.List;
  * This class provides methods for executing SQL queries using {@link JdbcTemplate}
  * to retrieve property descriptions based on specific criteria.
  * <p>
+ * Descriptions are served from the bounded {@link DescriptionCache} and the persistent
+ * {@link DescriptionSnapshotStore} before querying the database.
+ * <p>
+ * Every configured locale is fetched by the same set-based queries, so the descriptions of all
+ * the locales are resolved in a single lookup and held together, indexed by locale position.
+ * <p>
  *
  * @author architecture - rperezv
- * @version 25/10/2024 - 12:48
+ * @version 16/10/2026 - 21:09
  * @since jdk 1.17
  */
 @Repository
 @RequiredArgsConstructor
+@Slf4j
 public class OracleRepository {
 
+    /**
+     * Default locale of the descriptions retrieved from the database.
+     */
+    static final String LOCALE = "en_US";
+
     /**
      * {@link JdbcTemplate} instance used for executing SQL queries.
      */
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * Maximum number of bind variables per IN list (Oracle rejects lists longer than 1000 expressions).
+     */
+    private static final int IN_LIST_CHUNK_SIZE = 1000;
+
+    /**
+     * Persistent snapshot of the descriptions resolved in previous runs.
+     */
+    private final DescriptionSnapshotStore snapshotStore;
+
+    /**
+     * Bounded cache of the descriptions resolved in this run.
+     */
+    private final DescriptionCache descriptionCache;
+
+    /**
+     * Metrics of the generation runs (queries and rows).
+     */
+    private final GenerationMetrics generationMetrics;
+
+    /**
+     * When enabled, descriptions are resolved from the snapshot only and the database is never queried.
+     */
+    @Value("${app.descriptions.offline:false}")
+    private boolean offline;
+
+    /**
+     * Locales of the descriptions retrieved from the database, the first one being the primary locale.
+     */
+    @Value("${app.descriptions.locales:" + LOCALE + "}")
+    private List<String> locales = List.of(LOCALE);
+
+    /**
+     * Returns the locales of the descriptions, the primary locale first.
+     *
+     * @return the configured locales
+     */
+    public List<String> getLocales() {
+        return locales;
+    }
+
     /**
      * Finds a list of {@link Property} entities by matching the provided property name.
      * <p>
-     * Executes a query on the database to retrieve property descriptions
-     * based on the specified name and locale.
+     * The description is resolved through the same cache, snapshot and database lookup
+     * as {@link #findDescriptionsByProperties(Collection)}.
      *
      * @param name the name of the property to search for
      * @return a list of {@link Property} entities containing the property name and description
      */
-    @Cacheable("descriptionByProperty")
     public List<Property> findDescriptionByProperty(final String name) {
+        String description = this.findDescriptionsByProperties(List.of(name)).get(name);
+        return description == null
+                ? Collections.emptyList()
+                : List.of(Property.builder().name(this.getPlyPropertyName(name)).locale(locales.get(0))
+                        .description(description).build());
+    }
 
-        // SQL query to retrieve property description based on locale and property name
+    /**
+     * Finds the descriptions of a set of properties in the primary locale using chunked, set-based queries.
+     * <p>
+     * Every name is normalized to its database identifier and each distinct identifier is
+     * resolved only once, even when several property names share it. Identifiers are read from
+     * the bounded {@link DescriptionCache}, then from the {@link DescriptionSnapshotStore}; only
+     * the missing or stale ones are queried, in chunks of {@value #IN_LIST_CHUNK_SIZE} bind
+     * variables, and recorded back in the snapshot. In offline mode the database is never queried.
+     *
+     * @param names the property names to search for
+     * @return a map of property name to description, containing only the properties with a description
+     */
+    public Map<String, String> findDescriptionsByProperties(final Collection<String> names) {
+        Map<String, String> descriptionByName = new HashMap<>();
+        this.resolveDescriptions(names).forEach((name, description) -> {
+            if (description.text() != null) {
+                descriptionByName.put(name, description.text());
+            }
+        });
+        return descriptionByName;
+    }
+
+    /**
+     * Finds the descriptions of a set of properties in every configured locale, through the same
+     * cache, snapshot and chunked queries as {@link #findDescriptionsByProperties(Collection)}:
+     * each query fetches all the locales of its properties at once.
+     *
+     * @param names the property names to search for
+     * @return the descriptions of the properties by locale, containing only the properties with a description
+     */
+    public LocalizedDescriptions findLocalizedDescriptions(final Collection<String> names) {
+        return new LocalizedDescriptions(locales, this.resolveDescriptions(names));
+    }
+
+    /**
+     * Resolves the descriptions of a set of property names in every locale.
+     *
+     * @param names the property names to search for
+     * @return a map of property name to description, containing only the properties with a description
+     */
+    private Map<String, Description> resolveDescriptions(final Collection<String> names) {
+
+        if (names == null || names.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // Group the property names by their normalized database identifier
+        Map<String, List<String>> namesByPlyName = new LinkedHashMap<>();
+        for (String name : new LinkedHashSet<>(names)) {
+            namesByPlyName.computeIfAbsent(this.getPlyPropertyName(name), k -> new ArrayList<>()).add(name);
+        }
+
+        // Resolve the identifiers through the cache, loading all the misses at once
+        Map<String, Description> descriptionByPlyName =
+                descriptionCache.getAll(namesByPlyName.keySet(), this::loadDescriptions);
+
+        // Map the descriptions back to the original property names
+        Map<String, Description> descriptionByName = new HashMap<>();
+        namesByPlyName.forEach((plyName, originalNames) -> {
+            Description description = descriptionByPlyName.get(plyName);
+            if (description != null && description.isPresent()) {
+                originalNames.forEach(name -> descriptionByName.put(name, description));
+            }
+        });
+        return descriptionByName;
+    }
+
+    /**
+     * Loads the descriptions missing from the cache, reading the snapshot first and querying
+     * the database only for the missing or stale identifiers.
+     *
+     * @param keys the normalized property names missing from the cache
+     * @return the description of every requested name, {@link Description#NONE} when there is none
+     */
+    private Map<String, Description> loadDescriptions(final Set<? extends String> keys) {
+
+        // Read the snapshot first, only the missing or stale identifiers go to the database
+        Map<String, String[]> found = new HashMap<>();
+        List<String> plyNames = snapshotStore.lookup(new ArrayList<>(keys), found, offline);
+        log.info("Property descriptions: {} to be resolved, {} to be queried", keys.size(), plyNames.size());
+
+        if (offline) {
+            if (!plyNames.isEmpty()) {
+                log.warn("Offline mode: {} properties without description in the snapshot", plyNames.size());
+            }
+        } else if (!plyNames.isEmpty()) {
+            // Resolve the normalized identifiers chunk by chunk, every locale in the same query
+            Map<String, Integer> localeIndex = new HashMap<>();
+            for (int i = 0; i < locales.size(); i++) {
+                localeIndex.putIfAbsent(locales.get(i), i);
+            }
+            Map<String, String[]> queried = new HashMap<>();
+            for (int from = 0; from < plyNames.size(); from += IN_LIST_CHUNK_SIZE) {
+                List<String> chunk = plyNames.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, plyNames.size()));
+                for (Property property : this.queryDescriptions(chunk)) {
+                    Integer locale = localeIndex.get(property.getLocale());
+                    if (locale != null) {
+                        String[] texts = queried.computeIfAbsent(property.getName(), k -> new String[locales.size()]);
+                        if (texts[locale] == null) {
+                            texts[locale] = property.getDescription();
+                        }
+                    }
+                }
+            }
+            found.putAll(queried);
+
+            // Record every queried identifier, also those without description
+            snapshotStore.record(plyNames, queried);
+            try {
+                snapshotStore.save();
+            } catch (IOException e) {
+                log.error("Description snapshot could not be saved", e);
+            }
+        }
+
+        // Every requested identifier gets a value, so "no description" is cached as well
+        Map<String, Description> loaded = new HashMap<>();
+        keys.forEach(key -> loaded.put(key, Description.of(found.get(key))));
+        return loaded;
+    }
+
+    /**
+     * Executes a single set-based query for a chunk of normalized property names, fetching
+     * their descriptions in every configured locale.
+     *
+     * @param plyNames the normalized property names, at most {@value #IN_LIST_CHUNK_SIZE}
+     * @return the {@link Property} entities found for the given names, one per property and locale
+     */
+    private List<Property> queryDescriptions(final List<String> plyNames) {
+
+        // One bind variable per property name and per locale in the IN lists
         final String sql = new StringBuilder()
                 .append("SELECT")
                 .append("    t.prp_idn          AS property,")
+                .append("    s.lng_idn          AS locale,")
                 .append("    initcap(s.lng_lgc) AS description ")
                 .append("FROM")
                 .append("    t_dvl_trn_d_prp         t,")
                 .append("    TABLE ( prp_lng_dsp_t ) s ")
                 .append("WHERE")
-                .append("        s.lng_idn = 'en_US'")
-                .append("    AND t.prp_idn = ?")
+                .append("        t.prp_idn IN (")
+                .append(String.join(",", Collections.nCopies(plyNames.size(), "?")))
+                .append(")")
+                .append("    AND s.lng_idn IN (")
+                .append(String.join(",", Collections.nCopies(locales.size(), "?")))
+                .append(")")
                 .append("    AND s.lng_lgc IS NOT NULL")
                 .append("    AND upper(s.lng_lgc) != 'NULL' ")
                 .append("GROUP BY")
                 .append("    t.prp_idn,")
+                .append("    s.lng_idn,")
                 .append("    s.lng_lgc")
                 .toString();
 
-        // Executes the SQL query with the specified property name
-        return jdbcTemplate.query(sql,
+        List<Object> args = new ArrayList<>(plyNames.size() + locales.size());
+        args.addAll(plyNames);
+        args.addAll(locales);
+
+        DescriptionQueryEvent event = new DescriptionQueryEvent();
+        event.begin();
+        List<Property> properties = jdbcTemplate.query(sql,
                 (rs, rowNum) -> Property.builder()
                         .name(rs.getString("property"))
+                        .locale(rs.getString("locale"))
                         .description(rs.getString("description"))
                         .build(),
-                this.getPlyPropertyName(name));
+                args.toArray());
+        event.commit(plyNames.size(), properties.size());
+
+        generationMetrics.count(GenerationMetrics.DB_QUERIES, 1);
+        generationMetrics.count(GenerationMetrics.DB_ROWS, properties.size());
+        return properties;
     }
 
     private String getPlyPropertyName(String input) {
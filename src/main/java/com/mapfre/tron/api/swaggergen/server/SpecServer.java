@@ -0,0 +1,249 @@
+package com.mapfre.tron.api.swaggergen.server;
+
+import com.mapfre.tron.api.swaggergen.components.YamlSpecWriter;
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Lightweight HTTP server of the generated document, running in the generator JVM.
+ * <p>
+ * The document is held in memory as pre-encoded byte buffers, plain and gzipped, and served with
+ * a strong {@code ETag}, so clients that send {@code If-None-Match} only download it again when it
+ * has changed. Single definitions are served from the models map of the last generation, each one
+ * rendered and encoded on its first request only. Publishing a new generation swaps all the
+ * buffers at once, so a request never sees a mix of two generations.
+ * <p>
+ * Endpoints: {@code GET /swagger.yaml} and {@code GET /definitions/{name}}.
+ * <p>
+ * The server is created lazily, on the first run that serves the document.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:47
+ * @since jdk 1.17
+ */
+@Component
+@Lazy
+@Slf4j
+public class SpecServer {
+
+    private static final String YAML_CONTENT_TYPE = "application/yaml; charset=utf-8";
+
+    /**
+     * Port of the server.
+     */
+    @Value("${app.serve.port:8081}")
+    private int port;
+
+    /**
+     * Number of threads handling the requests.
+     */
+    @Value("${app.serve.threads:4}")
+    private int threads;
+
+    private volatile Snapshot snapshot;
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+    /**
+     * Encoded representation of a resource: plain and gzipped bodies with their entity tags,
+     * which differ because a strong tag identifies the exact bytes sent.
+     */
+    private record Encoded(byte[] body, byte[] gzipped, String etag, String gzippedEtag) {
+
+        static Encoded of(final byte[] body) {
+            String etag = entityTag(body);
+            return new Encoded(body, gzip(body), etag, etag.substring(0, etag.length() - 1) + "-gzip\"");
+        }
+    }
+
+    /**
+     * Published generation: the encoded document and the definitions, encoded on demand.
+     */
+    private record Snapshot(Encoded document, Map<String, Map<String, Schema>> definitions,
+                            Map<String, Encoded> encodedDefinitions) {
+    }
+
+    /**
+     * Starts the server on the configured port. Requests are answered with 503 until a generation
+     * is published, so the first one should be published before starting.
+     *
+     * @throws IOException if the server cannot be bound
+     */
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            return;
+        }
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/swagger.yaml", this::handleDocument);
+        server.createContext("/definitions/", this::handleDefinition);
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.start();
+        log.info("Swagger server listening on port {}", server.getAddress().getPort());
+    }
+
+    /**
+     * Publishes a new generation, replacing the one being served.
+     *
+     * @param document    the generated document file
+     * @param definitions the generated definitions, by name
+     * @throws IOException if the document cannot be read
+     */
+    public void publish(final Path document, final Map<String, Map<String, Schema>> definitions) throws IOException {
+        Encoded encoded = Encoded.of(Files.readAllBytes(document));
+        snapshot = new Snapshot(encoded, Map.copyOf(definitions), new ConcurrentHashMap<>());
+        log.info("Swagger file published: {} bytes, {} gzipped, ETag {}",
+                encoded.body().length, encoded.gzipped().length, encoded.etag());
+    }
+
+    /**
+     * Stops the server, letting the running requests complete.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(1);
+            executor.shutdown();
+            server = null;
+            log.info("Swagger server stopped");
+        }
+    }
+
+    private void handleDocument(final HttpExchange exchange) throws IOException {
+        Snapshot current = snapshot;
+        if (current == null) {
+            sendStatus(exchange, 503);
+        } else {
+            send(exchange, current.document());
+        }
+    }
+
+    private void handleDefinition(final HttpExchange exchange) throws IOException {
+        Snapshot current = snapshot;
+        if (current == null) {
+            sendStatus(exchange, 503);
+            return;
+        }
+        String name = URLDecoder.decode(exchange.getRequestURI().getRawPath().substring("/definitions/".length()),
+                StandardCharsets.UTF_8);
+        Map<String, Schema> definition = current.definitions().get(name);
+        if (definition == null) {
+            sendStatus(exchange, 404);
+            return;
+        }
+        send(exchange, current.encodedDefinitions().computeIfAbsent(name, key -> Encoded.of(
+                YamlSpecWriter.renderDefinition(key, definition).getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Sends an encoded resource, or 304 if the client already has it.
+     */
+    private static void send(final HttpExchange exchange, final Encoded encoded) throws IOException {
+        String method = exchange.getRequestMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+            sendStatus(exchange, 405);
+            return;
+        }
+
+        // Serve the gzipped buffer to the clients that accept it
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        boolean gzipped = acceptEncoding != null && acceptEncoding.contains("gzip");
+        String etag = gzipped ? encoded.gzippedEtag() : encoded.etag();
+
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+            sendStatus(exchange, 304);
+            return;
+        }
+
+        byte[] body = gzipped ? encoded.gzipped() : encoded.body();
+        if (gzipped) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.getResponseHeaders().set("Content-Type", YAML_CONTENT_TYPE);
+        if ("HEAD".equals(method)) {
+            exchange.getResponseHeaders().set("Content-Length", String.valueOf(body.length));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sendStatus(final HttpExchange exchange, final int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against an entity tag, with the weak comparison
+     * the header requires.
+     */
+    private static boolean matches(final String ifNoneMatch, final String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the strong entity tag of a body, from its SHA-256 hash.
+     */
+    private static String entityTag(final byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(final byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.mapfre.tron.api.swaggergen.benchmark;
+
+import com.mapfre.tron.api.swaggergen.components.ObjectAnalyzer;
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+
+/**
+ * Benchmark of {@link ObjectAnalyzer#analyzeClass(Class)} over generated model classes.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 20:36
+ * @since jdk 1.17
+ */
+@State(Scope.Benchmark)
+public class AnalyzeBenchmark {
+
+    @Param({"100", "1000"})
+    private int modelCount;
+
+    @Param({"10", "50"})
+    private int fieldsPerModel;
+
+    private Class<?>[] classes;
+
+    @Setup
+    public void setUp() throws ClassNotFoundException {
+        BenchmarkSupport.quietLogging();
+        ClassLoader classLoader = SyntheticModels.compileClasses(modelCount, fieldsPerModel);
+        classes = new Class<?>[modelCount];
+        for (int model = 0; model < modelCount; model++) {
+            classes[model] = Class.forName(SyntheticModels.className(model), true, classLoader);
+        }
+    }
+
+    @Benchmark
+    public void analyzeClass(final Blackhole blackhole) {
+        // A new analyzer per run, as every generation does
+        ObjectAnalyzer objectAnalyzer = new ObjectAnalyzer();
+        for (Class<?> clazz : classes) {
+            Map<String, Schema> definition = objectAnalyzer.analyzeClass(clazz);
+            blackhole.consume(definition);
+        }
+    }
+
+}
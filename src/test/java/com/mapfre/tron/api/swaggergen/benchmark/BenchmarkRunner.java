@@ -0,0 +1,51 @@
+package com.mapfre.tron.api.swaggergen.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of the benchmark suite, run by the {@code benchmarks} Maven profile.
+ * <p>
+ * Every benchmark is measured in average time with the GC profiler, which reports the
+ * allocation rate per operation ({@code gc.alloc.rate.norm}). Results are also written in
+ * JSON to {@code target/jmh-result.json}, to compare runs before a release. JMH command line
+ * options not set here, such as {@code -p modelCount=1000}, are honored.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 20:36
+ * @since jdk 1.17
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .include(BenchmarkRunner.class.getPackageName() + ".*Benchmark")
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result.json")
+                .parent(new CommandLineOptions(args))
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.mapfre.tron.api.swaggergen.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mapfre.tron.api.swaggergen.metrics.GenerationMetrics;
+import com.mapfre.tron.api.swaggergen.repository.DescriptionCache;
+import com.mapfre.tron.api.swaggergen.repository.DescriptionSnapshotStore;
+import com.mapfre.tron.api.swaggergen.repository.OracleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Fixtures shared by the benchmarks.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 20:38
+ * @since jdk 1.17
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Raises the log level, so logging does not distort the measurements.
+     */
+    static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+    }
+
+    /**
+     * Creates an {@link OracleRepository} backed by the in-memory stand-in, with a new bounded
+     * cache and no snapshot. One property out of four has no description.
+     */
+    static OracleRepository inMemoryRepository() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(DescriptionCache.NAME);
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100_000).recordStats());
+        InMemoryJdbcTemplate jdbcTemplate = new InMemoryJdbcTemplate(
+                name -> (name.hashCode() & 3) == 0 ? null : "Description of " + name.toLowerCase());
+        return new OracleRepository(jdbcTemplate, new DescriptionSnapshotStore(), new DescriptionCache(cacheManager),
+                metrics());
+    }
+
+    /**
+     * Creates the metrics of a benchmark, recorded in a registry of their own.
+     */
+    static GenerationMetrics metrics() {
+        return new GenerationMetrics(new SimpleMeterRegistry());
+    }
+
+    /**
+     * Deletes a temporary directory and its content.
+     */
+    static void delete(final Path dir) throws IOException {
+        if (dir != null && Files.exists(dir)) {
+            try (Stream<Path> paths = Files.walk(dir)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.mapfre.tron.api.swaggergen.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-in for the Oracle description table: every query is answered by a function
+ * of the normalized property name and the locale, one row per property and requested locale that
+ * has a description. Bind variables naming a locale of the table are the requested locales, the
+ * other ones are property names.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 21:09
+ * @since jdk 1.17
+ */
+public class InMemoryJdbcTemplate extends JdbcTemplate {
+
+    private final Set<String> locales;
+
+    private final BiFunction<String, String, String> descriptionByProperty;
+
+    private final AtomicLong queries = new AtomicLong();
+
+    /**
+     * Creates a stand-in answering from the given descriptions, in the {@code en_US} locale only.
+     *
+     * @param descriptionByProperty function returning the description of a normalized property name, or null
+     */
+    public InMemoryJdbcTemplate(final Function<String, String> descriptionByProperty) {
+        this(Set.of("en_US"), (property, locale) -> descriptionByProperty.apply(property));
+    }
+
+    /**
+     * Creates a stand-in answering from the given descriptions in the given locales.
+     *
+     * @param locales               the locales of the table
+     * @param descriptionByProperty function returning the description of a normalized property name in a locale, or null
+     */
+    public InMemoryJdbcTemplate(final Set<String> locales,
+                                final BiFunction<String, String, String> descriptionByProperty) {
+        this.locales = locales;
+        this.descriptionByProperty = descriptionByProperty;
+    }
+
+    @Override
+    public <T> List<T> query(final String sql, final RowMapper<T> rowMapper, final Object... args) {
+        queries.incrementAndGet();
+        List<String> properties = new ArrayList<>();
+        List<String> requestedLocales = new ArrayList<>();
+        for (Object arg : args) {
+            (locales.contains(String.valueOf(arg)) ? requestedLocales : properties).add(String.valueOf(arg));
+        }
+        List<T> rows = new ArrayList<>();
+        for (String property : properties) {
+            for (String locale : requestedLocales) {
+                String description = descriptionByProperty.apply(property, locale);
+                if (description != null) {
+                    try {
+                        rows.add(rowMapper.mapRow(row(property, locale, description), rows.size()));
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the number of queries executed.
+     *
+     * @return the query count
+     */
+    public long getQueries() {
+        return queries.get();
+    }
+
+    private static ResultSet row(final String property, final String locale, final String description) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, methodArgs) -> "getString".equals(method.getName())
+                        ? switch (String.valueOf(methodArgs[0])) {
+                            case "property" -> property;
+                            case "locale" -> locale;
+                            default -> description;
+                        }
+                        : null);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.mapfre.tron.api.swaggergen.benchmark;
+
+import com.mapfre.tron.api.swaggergen.repository.OracleRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark of the description lookup against the in-memory stand-in repository: the single
+ * {@link OracleRepository#findDescriptionByProperty(String)} on a warm cache, and the batch
+ * lookup of every property of the models on a cold cache.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 20:36
+ * @since jdk 1.17
+ */
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+
+    @Param({"100", "1000"})
+    private int modelCount;
+
+    @Param({"10", "50"})
+    private int fieldsPerModel;
+
+    private OracleRepository warmRepository;
+
+    private List<String> propertyNames;
+
+    private List<String> distinctNames;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        distinctNames = SyntheticModels.propertyNames(fieldsPerModel);
+
+        // Every model repeats the shared property names
+        propertyNames = new ArrayList<>(modelCount * fieldsPerModel);
+        for (int model = 0; model < modelCount; model++) {
+            propertyNames.addAll(distinctNames);
+        }
+
+        warmRepository = BenchmarkSupport.inMemoryRepository();
+        warmRepository.findDescriptionsByProperties(distinctNames);
+    }
+
+    @Benchmark
+    public void findDescriptionByProperty(final Blackhole blackhole) {
+        for (String name : propertyNames) {
+            blackhole.consume(warmRepository.findDescriptionByProperty(name));
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> findDescriptionsByPropertiesCold() {
+        return BenchmarkSupport.inMemoryRepository().findDescriptionsByProperties(propertyNames);
+    }
+
+}
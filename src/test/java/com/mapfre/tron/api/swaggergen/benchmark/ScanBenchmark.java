@@ -0,0 +1,51 @@
+package com.mapfre.tron.api.swaggergen.benchmark;
+
+import com.mapfre.tron.api.swaggergen.components.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Benchmark of {@link FileUtils#findJavaFilesWithPackages(java.io.File)} over a generated source tree.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 20:36
+ * @since jdk 1.17
+ */
+@State(Scope.Benchmark)
+public class ScanBenchmark {
+
+    @Param({"100", "1000"})
+    private int modelCount;
+
+    @Param({"10", "50"})
+    private int fieldsPerModel;
+
+    private Path sourceDir;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkSupport.quietLogging();
+        sourceDir = Files.createTempDirectory("swaggergen-scan");
+        SyntheticModels.writeSources(sourceDir, modelCount, fieldsPerModel);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkSupport.delete(sourceDir);
+    }
+
+    @Benchmark
+    public Map<String, String> findJavaFilesWithPackages() throws IOException {
+        return FileUtils.findJavaFilesWithPackages(sourceDir.toFile());
+    }
+
+}
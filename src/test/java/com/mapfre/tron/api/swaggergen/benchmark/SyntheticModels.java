@@ -0,0 +1,158 @@
+package com.mapfre.tron.api.swaggergen.benchmark;
+
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Opcodes;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Generator of synthetic NWT-like models used by the benchmarks: Java sources, compiled
+ * classes and analyzed definitions, with references and lists between models and property
+ * names shared by every model.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 20:36
+ * @since jdk 1.17
+ */
+final class SyntheticModels {
+
+    static final String PACKAGE = "com.mapfre.nwt.bench";
+
+    private static final int PACKAGES = 16;
+
+    private SyntheticModels() {
+    }
+
+    static String modelName(final int model) {
+        return "OBench" + model + "S";
+    }
+
+    static String propertyName(final int field) {
+        return "bchFld" + field + "Val";
+    }
+
+    /**
+     * Writes a source tree with one class per model, spread over several packages.
+     */
+    static void writeSources(final Path root, final int modelCount, final int fieldsPerModel) throws IOException {
+        for (int model = 0; model < modelCount; model++) {
+            String packageName = PACKAGE + ".p" + (model % PACKAGES);
+            Path dir = root.resolve(packageName.replace('.', '/'));
+            Files.createDirectories(dir);
+
+            StringBuilder source = new StringBuilder()
+                    .append("/*\n * Copyright MAPFRE. All rights reserved.\n */\n")
+                    .append("package ").append(packageName).append(";\n\n")
+                    .append("import java.util.List;\n\n")
+                    .append("public class ").append(modelName(model)).append(" {\n");
+            for (int field = 0; field < fieldsPerModel; field++) {
+                source.append("    private ").append(javaType(model, field, modelCount))
+                        .append(' ').append(propertyName(field)).append(";\n");
+            }
+            source.append("}\n");
+            Files.writeString(dir.resolve(modelName(model) + ".java"), source);
+        }
+    }
+
+    private static String javaType(final int model, final int field, final int modelCount) {
+        return switch (field % 6) {
+            case 0 -> "int";
+            case 1 -> "String";
+            case 2 -> "Long";
+            case 3 -> "java.math.BigDecimal";
+            case 4 -> "List<" + modelName((model + field) % modelCount) + ">";
+            default -> modelName((model + 1) % modelCount);
+        };
+    }
+
+    /**
+     * Generates the compiled classes of the models, loadable through the returned class loader.
+     */
+    static ClassLoader compileClasses(final int modelCount, final int fieldsPerModel) {
+        Map<String, byte[]> classes = new HashMap<>();
+        for (int model = 0; model < modelCount; model++) {
+            String internalName = internalName(model);
+            ClassWriter writer = new ClassWriter(0);
+            writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, "java/lang/Object", null);
+            for (int field = 0; field < fieldsPerModel; field++) {
+                String descriptor;
+                String signature = null;
+                switch (field % 6) {
+                    case 0 -> descriptor = "I";
+                    case 1 -> descriptor = "Ljava/lang/String;";
+                    case 2 -> descriptor = "Ljava/lang/Long;";
+                    case 3 -> descriptor = "Ljava/math/BigDecimal;";
+                    case 4 -> {
+                        descriptor = "Ljava/util/List;";
+                        signature = "Ljava/util/List<L" + internalName((model + field) % modelCount) + ";>;";
+                    }
+                    default -> descriptor = "L" + internalName((model + 1) % modelCount) + ";";
+                }
+                writer.visitField(Opcodes.ACC_PRIVATE, propertyName(field), descriptor, signature, null).visitEnd();
+            }
+            writer.visitEnd();
+            classes.put(internalName.replace('/', '.'), writer.toByteArray());
+        }
+        return new ClassLoader(SyntheticModels.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(final String name) throws ClassNotFoundException {
+                byte[] bytes = classes.get(name);
+                if (bytes == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+    }
+
+    static String className(final int model) {
+        return internalName(model).replace('/', '.');
+    }
+
+    private static String internalName(final int model) {
+        return (PACKAGE + ".p" + (model % PACKAGES)).replace('.', '/') + "/" + modelName(model);
+    }
+
+    /**
+     * Builds the analyzed definitions of the models, as produced by the analysis phase.
+     */
+    static Map<String, Map<String, Schema>> definitions(final int modelCount, final int fieldsPerModel) {
+        Map<String, Map<String, Schema>> models = new TreeMap<>();
+        for (int model = 0; model < modelCount; model++) {
+            Map<String, Schema> properties = new LinkedHashMap<>();
+            for (int field = 0; field < fieldsPerModel; field++) {
+                properties.put(propertyName(field), switch (field % 6) {
+                    case 0 -> Schema.INT32;
+                    case 1 -> Schema.STRING;
+                    case 2 -> Schema.INT64;
+                    case 3 -> Schema.NUMBER;
+                    case 4 -> Schema.arrayOf(Schema.ref(modelName((model + field) % modelCount)));
+                    default -> Schema.ref(modelName((model + 1) % modelCount));
+                });
+            }
+            models.put(modelName(model), properties);
+        }
+        return models;
+    }
+
+    /**
+     * Returns the distinct property names of the models.
+     */
+    static List<String> propertyNames(final int fieldsPerModel) {
+        List<String> names = new ArrayList<>(fieldsPerModel);
+        for (int field = 0; field < fieldsPerModel; field++) {
+            names.add(propertyName(field));
+        }
+        return names;
+    }
+
+}
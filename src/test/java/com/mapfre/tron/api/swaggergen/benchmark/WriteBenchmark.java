@@ -0,0 +1,77 @@
+package com.mapfre.tron.api.swaggergen.benchmark;
+
+import com.mapfre.tron.api.swaggergen.components.ModelFilter;
+import com.mapfre.tron.api.swaggergen.components.SpecFormat;
+import com.mapfre.tron.api.swaggergen.components.SwaggerGenerator;
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark of {@link SwaggerGenerator#generateSwaggerFile(Map, String)} with the descriptions
+ * served by the in-memory stand-in repository, writing the Swagger 2.0 YAML document only or
+ * every {@link SpecFormat} in the same pass.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 21:00
+ * @since jdk 1.17
+ */
+@State(Scope.Benchmark)
+public class WriteBenchmark {
+
+    @Param({"100", "1000"})
+    private int modelCount;
+
+    @Param({"10", "50"})
+    private int fieldsPerModel;
+
+    @Param({"swagger2-yaml", "all"})
+    private String formats;
+
+    private SwaggerGenerator swaggerGenerator;
+
+    private Map<String, Map<String, Schema>> models;
+
+    private Path outputDir;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkSupport.quietLogging();
+        outputDir = Files.createTempDirectory("swaggergen-write");
+        Path prelude = Files.writeString(outputDir.resolve("source_definitions.txt"),
+                "  Error:\n    type: object\n    properties:\n      code:\n        type: string\n");
+
+        ModelFilter modelFilter = ModelFilter.compile(List.of("AObjCPT", "ObjNwtDto"), List.of(), List.of(),
+                List.of("atrPT", "oTrnPrcS", "serialVersionUID"), List.of());
+        swaggerGenerator = new SwaggerGenerator(BenchmarkSupport.inMemoryRepository(), BenchmarkSupport.metrics(),
+                modelFilter);
+        ReflectionTestUtils.setField(swaggerGenerator, "preludePath", prelude.toString());
+        ReflectionTestUtils.setField(swaggerGenerator, "formats", "all".equals(formats)
+                ? Arrays.stream(SpecFormat.values()).map(SpecFormat::toString).toList()
+                : List.of(formats));
+        models = SyntheticModels.definitions(modelCount, fieldsPerModel);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkSupport.delete(outputDir);
+    }
+
+    @Benchmark
+    public void generateSwaggerFile() throws IOException {
+        swaggerGenerator.generateSwaggerFile(models, outputDir.resolve("swagger.yaml").toString());
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.mapfre.tron.api.swaggergen.bootstrap;
+
+import com.mapfre.tron.api.swaggergen.SwaggergenApplication;
+import com.mapfre.tron.api.swaggergen.benchmark.InMemoryJdbcTemplate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Watch mode of the {@link AppRunner}, over two model classes compiled into a temporary directory,
+ * with an in-memory description store standing in for Oracle.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:16
+ * @since jdk 1.17
+ */
+class WatchModeTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    @TempDir
+    Path root;
+
+    /**
+     * Description store standing in for Oracle; the data source is never connected.
+     */
+    static class InMemoryDescriptions {
+
+        @Bean
+        @Primary
+        JdbcTemplate inMemoryJdbcTemplate() {
+            InMemoryJdbcTemplate jdbcTemplate = new InMemoryJdbcTemplate(name -> "Description of " + name);
+            jdbcTemplate.setDataSource(new SimpleDriverDataSource());
+            return jdbcTemplate;
+        }
+    }
+
+    @Test
+    void watchModeNeedsBytecodeAnalysis() throws IOException {
+        String[] args = this.args("reflection");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> run(args).close());
+
+        Throwable cause = e;
+        while (cause.getCause() != null && !String.valueOf(cause.getMessage()).contains("app.analysis.mode")) {
+            cause = cause.getCause();
+        }
+        assertTrue(String.valueOf(cause.getMessage()).contains("app.analysis.mode=bytecode"), cause.toString());
+    }
+
+    @Test
+    void sourceChangeRegeneratesWithFreshCountersAndCloseStopsTheThread() throws Exception {
+        Path summary = root.resolve("swaggergen-metrics.json");
+        Path source;
+        try (ConfigurableApplicationContext context = run(this.args("bytecode"))) {
+            // The initial run loaded both classes
+            String initial = Files.readString(summary);
+            assertTrue(initial.contains(counter("swaggergen.classes.loaded", 2)), initial);
+            assertNotNull(watchThread(), "Watch thread running");
+
+            // Touch a source until the regeneration is reported, the watcher may still be registering
+            source = root.resolve("src/com/mapfre/nwt/watch/OWatchAS.java");
+            String regenerated = initial;
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (regenerated.equals(initial) && System.nanoTime() < deadline) {
+                Files.writeString(source, Files.readString(source) + "\n");
+                Thread.sleep(300);
+                regenerated = Files.readString(summary);
+            }
+            assertNotEquals(initial, regenerated, "Summary rewritten after the change");
+
+            // Only the changed class is counted, the counters of the initial run are gone
+            assertTrue(regenerated.contains(counter("swaggergen.classes.loaded", 1)), regenerated);
+            assertFalse(regenerated.contains("\"swaggergen.files.scanned\""), regenerated);
+        }
+
+        assertTrue(watchThread() == null || !watchThread().isAlive(), "Watch thread stopped with the context");
+    }
+
+    /**
+     * Writes and compiles the models, returning the arguments of a watch-mode run over them.
+     */
+    private String[] args(final String analysisMode) throws IOException {
+        Path sourceDir = Files.createDirectories(root.resolve("src/com/mapfre/nwt/watch"));
+        Path classesDir = Files.createDirectories(root.resolve("classes"));
+        Path first = Files.writeString(sourceDir.resolve("OWatchAS.java"), """
+                package com.mapfre.nwt.watch;
+
+                public class OWatchAS {
+                    private String nmeVal;
+                    private OWatchBS nxtVal;
+                }
+                """);
+        Path second = Files.writeString(sourceDir.resolve("OWatchBS.java"), """
+                package com.mapfre.nwt.watch;
+
+                public class OWatchBS {
+                    private java.math.BigDecimal amnVal;
+                }
+                """);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler, "System Java compiler");
+        assertTrue(compiler.run(null, null, null, "-d", classesDir.toString(), "-proc:none",
+                first.toString(), second.toString()) == 0, "Models compiled");
+
+        return new String[]{
+                "--app.sources.dir=" + root.resolve("src"),
+                "--app.analysis.mode=" + analysisMode,
+                "--app.analysis.classes-dirs=" + classesDir,
+                "--app.output.path=" + root.resolve("swagger.yaml"),
+                "--app.output.prelude=" + Files.writeString(root.resolve("source_definitions.txt"), ""),
+                "--app.descriptions.snapshot.path=",
+                "--app.metrics.summary-path=" + root.resolve("swaggergen-metrics.json"),
+                "--app.incremental.enabled=true",
+                "--app.incremental.manifest=" + root.resolve("swaggergen.manifest"),
+                "--app.mode=watch",
+                "--app.watch.debounce=50ms",
+                "--app.serve.enabled=false",
+                "--logging.level.root=WARN"
+        };
+    }
+
+    private static ConfigurableApplicationContext run(final String[] args) {
+        return new SpringApplicationBuilder(SwaggergenApplication.class, InMemoryDescriptions.class)
+                .web(WebApplicationType.NONE).logStartupInfo(false).run(args);
+    }
+
+    private static String counter(final String name, final int count) {
+        return "\"name\": \"" + name + "\", \"type\": \"counter\", \"tags\": {}, \"count\": " + (double) count + "}";
+    }
+
+    private static Thread watchThread() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("swaggergen-watch"))
+                .findFirst().orElse(null);
+    }
+
+}
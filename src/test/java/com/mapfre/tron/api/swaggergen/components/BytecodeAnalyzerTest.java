@@ -0,0 +1,32 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Schemas read from class files by the {@link BytecodeAnalyzer}, checked against the {@link ObjectAnalyzer}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:40
+ * @since jdk 1.17
+ */
+class BytecodeAnalyzerTest {
+
+    @Test
+    void mapsTheSameSchemasAsTheReflectiveAnalyzer() throws Exception {
+        Path classesDir = Path.of(ObjectAnalyzerTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        BytecodeAnalyzer bytecode = new BytecodeAnalyzer(List.of(classesDir), ObjectAnalyzerTest.filter());
+        ObjectAnalyzer reflective = new ObjectAnalyzer(ObjectAnalyzerTest.filter());
+
+        for (Class<?> model : List.of(ObjectAnalyzerTest.OOwnerS.class, ObjectAnalyzerTest.OTypedS.class)) {
+            assertEquals(reflective.analyzeClass(model), bytecode.analyzeClass(model.getName()), model.getName());
+        }
+        assertEquals(reflective.analyzeReferencedClasses(List.of(ObjectAnalyzerTest.OTypedS.class)),
+                bytecode.analyzeReferencedClasses(List.of(ObjectAnalyzerTest.OTypedS.class.getName())));
+    }
+
+}
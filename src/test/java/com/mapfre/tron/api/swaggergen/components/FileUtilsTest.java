@@ -0,0 +1,47 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Permissions of the temporary files created by {@link FileUtils} to replace a published file.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:21
+ * @since jdk 1.17
+ */
+class FileUtilsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void tempFileOfANewTargetIsWorldReadable() throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+
+        Path temp = FileUtils.createTempFile(dir.resolve("swagger.yaml"));
+
+        assertEquals("rw-r--r--", PosixFilePermissions.toString(Files.getPosixFilePermissions(temp)));
+    }
+
+    @Test
+    void tempFileKeepsThePermissionsOfTheTarget() throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Path target = Files.writeString(dir.resolve("swagger.yaml"), "swagger: '2.0'\n");
+        Files.setPosixFilePermissions(target, PosixFilePermissions.fromString("rw-rw-r--"));
+
+        Path temp = FileUtils.createTempFile(target);
+
+        assertEquals("rw-rw-r--", PosixFilePermissions.toString(Files.getPosixFilePermissions(temp)));
+    }
+
+}
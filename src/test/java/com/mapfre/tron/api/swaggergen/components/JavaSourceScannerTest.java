@@ -0,0 +1,56 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Package declarations parsed from the header of the files by the {@link JavaSourceScanner}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:40
+ * @since jdk 1.17
+ */
+class JavaSourceScannerTest {
+
+    /**
+     * Size of the header read before falling back to the whole file.
+     */
+    private static final int HEADER_SIZE = 8 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsAPackageDeclarationCrossingTheHeaderEnd() throws IOException {
+        // A license comment long enough to leave "packa" at the end of the header
+        String license = "/*" + "x".repeat(HEADER_SIZE - "packa".length() - "/**/\n".length()) + "*/\n";
+        Path source = Files.writeString(dir.resolve("OPlyS.java"),
+                license + "package com.mapfre.tron.model;\n\npublic class OPlyS {\n}\n");
+
+        assertEquals(HEADER_SIZE, (license + "packa").length());
+        assertEquals("com.mapfre.tron.model", JavaSourceScanner.readPackageName(source));
+    }
+
+    @Test
+    void leavesATruncatedHeaderUnresolved() {
+        assertNull(JavaSourceScanner.parsePackageName("// License\npacka", true));
+        assertNull(JavaSourceScanner.parsePackageName("// License\npackage", true));
+        assertNull(JavaSourceScanner.parsePackageName("// License\n/", true));
+        assertEquals("", JavaSourceScanner.parsePackageName("// License\npublic class OPlyS {}", true));
+    }
+
+    @Test
+    void parsesTheDeclarationAfterCommentsAndAnnotations() {
+        assertEquals("com.mapfre.tron.model", JavaSourceScanner.parsePackageName(
+                "\uFEFF/* License */\n@Deprecated(since = \"(1)\")\npackage com.mapfre /* x */ .tron.model;", false));
+        assertEquals("", JavaSourceScanner.parsePackageName("import java.util.List;\nclass OPlyS {}", false));
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prelude definitions written by the {@link JsonSpecWriter}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:23
+ * @since jdk 1.17
+ */
+class JsonSpecWriterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void keepsTheYaml11ScalarsOfThePreludeAsStrings() throws IOException {
+        Path prelude = Files.writeString(dir.resolve("source_definitions.txt"), """
+                  OPrlS:
+                    type: object
+                    properties:
+                      fecVal:
+                        type: string
+                        example: 2024-10-23
+                      mrcVal:
+                        type: string
+                        default: yes
+                      cntVal:
+                        type: integer
+                        maximum: 1_000
+                        minimum: 5
+                      nxtVal:
+                        $ref: '#/definitions/ONxtS'
+                """);
+        Path target = dir.resolve("swagger.json");
+
+        try (JsonSpecWriter writer = JsonSpecWriter.open(target, SpecFormat.OPENAPI3_JSON)) {
+            writer.writeHeader("Models", "Generated models", "1.0");
+            writer.writePrelude(PreludeIndex.build(prelude), Set.of());
+            writer.commit();
+        }
+
+        String json = Files.readString(target);
+        assertTrue(json.contains("\"example\":\"2024-10-23\""), json);
+        assertTrue(json.contains("\"default\":\"yes\""), json);
+        assertTrue(json.contains("\"maximum\":\"1_000\",\"minimum\":5"), json);
+        assertTrue(json.contains("\"$ref\":\"#/components/schemas/ONxtS\""), json);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exclusion rules of the {@link ModelFilter}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:34
+ * @since jdk 1.17
+ */
+class ModelFilterTest {
+
+    @Test
+    void matchesPlainNamesExactly() {
+        ModelFilter filter = ModelFilter.compile(List.of("AObjCPT"), List.of(), List.of(), List.of(), List.of());
+
+        assertTrue(filter.excludesClass("AObjCPT", "com.mapfre.nwt"));
+        assertFalse(filter.excludesClass("AObjCPTS", "com.mapfre.nwt"));
+        assertFalse(filter.excludesClass("aobjcpt", "com.mapfre.nwt"));
+    }
+
+    @Test
+    void matchesGlobsOnTheWholeName() {
+        ModelFilter filter = ModelFilter.compile(List.of("*Dto", "OTrn?S"), List.of(), List.of(), List.of(), List.of());
+
+        assertTrue(filter.excludesModel("ObjNwtDto"));
+        assertTrue(filter.excludesModel("Dto"));
+        assertFalse(filter.excludesModel("ObjNwtDtoS"));
+        assertTrue(filter.excludesModel("OTrnAS"));
+        assertFalse(filter.excludesModel("OTrnABS"));
+    }
+
+    @Test
+    void quotesTheRegexCharactersOfAGlob() {
+        ModelFilter filter = ModelFilter.compile(List.of(), List.of(), List.of(), List.of("atr.PT*"), List.of());
+
+        assertTrue(filter.excludesProperty("atr.PTVal"));
+        assertFalse(filter.excludesProperty("atrXPTVal"));
+    }
+
+    @Test
+    void excludesPackagesAndTheirSubpackagesOnly() {
+        ModelFilter filter = ModelFilter.compile(List.of(), List.of("com.mapfre.nwt.aux"), List.of(), List.of(), List.of());
+
+        assertTrue(filter.excludesClass("OPlyS", "com.mapfre.nwt.aux"));
+        assertTrue(filter.excludesClass("OPlyS", "com.mapfre.nwt.aux.dto"));
+        assertFalse(filter.excludesClass("OPlyS", "com.mapfre.nwt.auxiliary"));
+        assertFalse(filter.excludesClass("OPlyS", ""));
+    }
+
+    @Test
+    void excludesFieldsByModifier() {
+        ModelFilter filter = ModelFilter.compile(List.of(), List.of(), List.of(), List.of(), List.of(" Transient "));
+
+        assertTrue(filter.excludesField("cchVal", Modifier.PRIVATE | Modifier.TRANSIENT));
+        assertFalse(filter.excludesField("cchVal", Modifier.PRIVATE | Modifier.STATIC));
+    }
+
+    @Test
+    void excludesAnnotatedBySimpleOrQualifiedName() {
+        ModelFilter filter = ModelFilter.compile(List.of(), List.of(), List.of("Deprecated", "com.mapfre.Hidden"),
+                List.of(), List.of());
+
+        assertTrue(filter.excludesAnnotated(List.of("java.lang.Deprecated")));
+        assertTrue(filter.excludesAnnotated(List.of("com.mapfre.Hidden")));
+        assertFalse(filter.excludesAnnotated(List.of("org.other.Hidden")));
+    }
+
+    @Test
+    void rejectsUnknownModifiers() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ModelFilter.compile(List.of(), List.of(), List.of(), List.of(), List.of("volatile")));
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import com.mapfre.tron.api.swaggergen.components.JavaSourceScanner.SourceFile;
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Fingerprints and configuration check of the incremental {@link ModelManifest}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:45
+ * @since jdk 1.17
+ */
+class ModelManifestTest {
+
+    private static final Map<String, Schema> DEFINITION = Map.of("nmeVal", Schema.STRING, "nxtVal", Schema.ref("OSecondS"),
+            "sttVal", Schema.enumOf(List.of("ACTIVE", "CLOSED")));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reusesTheDefinitionsOfUnchangedSources() throws IOException {
+        SourceFile source = this.source("OFirstS.java", "class OFirstS {}");
+        ModelManifest manifest = ModelManifest.empty("mode=bytecode");
+        manifest.put(source, DEFINITION);
+        manifest.save(dir.resolve("manifest"));
+
+        ModelManifest loaded = ModelManifest.load(dir.resolve("manifest"), "mode=bytecode");
+
+        assertEquals(DEFINITION, loaded.findUnchanged(source));
+    }
+
+    @Test
+    void dropsTheManifestWhenTheConfigurationChanges() throws IOException {
+        SourceFile source = this.source("OFirstS.java", "class OFirstS {}");
+        ModelManifest manifest = ModelManifest.empty("mode=bytecode;" + filter("atrPT").fingerprint());
+        manifest.put(source, DEFINITION);
+        manifest.save(dir.resolve("manifest"));
+
+        ModelManifest loaded = ModelManifest.load(dir.resolve("manifest"),
+                "mode=bytecode;" + filter("atrPT", "serialVersionUID").fingerprint());
+
+        assertNull(loaded.findUnchanged(source));
+    }
+
+    @Test
+    void filterFingerprintIgnoresTheOrderOfTheNames() {
+        assertEquals(filter("atrPT", "oTrnPrcS").fingerprint(), filter("oTrnPrcS", "atrPT").fingerprint());
+    }
+
+    @Test
+    void fingerprintsArchiveEntriesByTheirCrc() throws IOException {
+        // The archive path is never read, only the entry size and CRC-32 are compared
+        Path jar = dir.resolve("missing.jar");
+        ModelManifest manifest = ModelManifest.empty("mode=bytecode");
+        manifest.put(new SourceFile("OFirstS", "com.mapfre.nwt", jar, 120, 0xCAFEL), DEFINITION);
+
+        assertEquals(DEFINITION, manifest.findUnchanged(new SourceFile("OFirstS", "com.mapfre.nwt", jar, 120, 0xCAFEL)));
+        assertNull(manifest.findUnchanged(new SourceFile("OFirstS", "com.mapfre.nwt", jar, 120, 0xBEEFL)));
+    }
+
+    @Test
+    void keepsReferencedClassesUntilTheirClassFileChanges() throws IOException {
+        Path classFile = dir.resolve("OThirdS.class");
+        ModelManifest manifest = ModelManifest.empty("mode=bytecode");
+        manifest.putReference("OThirdS", new SourceFile("OThirdS", "com.mapfre.lib", classFile, 640, 1000L), DEFINITION);
+        manifest.save(dir.resolve("manifest"));
+
+        ModelManifest loaded = ModelManifest.load(dir.resolve("manifest"), "mode=bytecode");
+
+        assertEquals(Map.of("OThirdS", "com.mapfre.lib.OThirdS"), loaded.referencedClasses());
+        assertEquals(DEFINITION, loaded.findUnchangedReference("OThirdS",
+                new SourceFile("OThirdS", "com.mapfre.lib", classFile, 640, 1000L)));
+        assertNull(loaded.findUnchangedReference("OThirdS",
+                new SourceFile("OThirdS", "com.mapfre.lib", classFile, 640, 2000L)));
+        assertNull(loaded.findUnchangedReference("OThirdS",
+                new SourceFile("OThirdS", "com.mapfre.other", classFile, 640, 1000L)));
+        assertNull(loaded.findUnchangedReference("OThirdS", null));
+
+        loaded.retainReferences(List.of("OFirstS"));
+        assertEquals(Map.of(), loaded.referencedClasses());
+    }
+
+    private SourceFile source(final String fileName, final String content) throws IOException {
+        return JavaSourceScanner.readSource(Files.writeString(dir.resolve(fileName), content));
+    }
+
+    private static ModelFilter filter(final String... fields) {
+        return ModelFilter.compile(List.of(), List.of(), List.of(), List.of(fields), List.of());
+    }
+
+}
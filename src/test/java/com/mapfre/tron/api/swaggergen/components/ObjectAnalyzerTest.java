@@ -0,0 +1,123 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Schemas produced by the reflective {@link ObjectAnalyzer}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:45
+ * @since jdk 1.17
+ */
+class ObjectAnalyzerTest {
+
+    static class OItemS {
+        private String nmeVal;
+    }
+
+    static class OOwnerS {
+        private static final long serialVersionUID = 1L;
+        private String nmeVal;
+        private BigDecimal amnVal;
+        private List<String> tagLst;
+        private List<OItemS> itmLst;
+        private OItemS itmVal;
+    }
+
+    static class OHolderS {
+        private OItemS itmVal;
+    }
+
+    enum Status { ACTIVE, ON_HOLD, YES }
+
+    interface OPartyI {
+        String nmeVal();
+    }
+
+    static class OEntryS {
+        private String nmeVal;
+    }
+
+    static class atrPT {
+        private String valVal;
+    }
+
+    static class OTypedS {
+        private Status sttVal;
+        private List<Status> sttLst;
+        private OPartyI ptyVal;
+        private OEntryS[] entArr;
+        private int[] numArr;
+        private byte[] binVal;
+        private List<atrPT> atrLst;
+    }
+
+    @Test
+    void mapsFieldsToSchemas() {
+        Map<String, Schema> definition = new ObjectAnalyzer(filter()).analyzeClass(OOwnerS.class);
+
+        assertEquals(Schema.STRING, definition.get("nmeVal"));
+        assertEquals(Schema.NUMBER, definition.get("amnVal"));
+        assertTrue(definition.get("itmLst").isArray() && definition.get("itmLst").items().isRef());
+        assertEquals(Schema.ref("OItemS"), definition.get("itmVal"));
+        assertFalse(definition.containsKey("serialVersionUID"));
+    }
+
+    @Test
+    void inlinesTheItemsOfListsOfStandardTypes() {
+        Map<String, Schema> definition = new ObjectAnalyzer(filter()).analyzeClass(OOwnerS.class);
+
+        assertEquals(Schema.arrayOf(Schema.STRING), definition.get("tagLst"));
+    }
+
+    @Test
+    void followsTheReferencedClasses() {
+        ObjectAnalyzer analyzer = new ObjectAnalyzer(filter());
+        analyzer.analyzeClass(OHolderS.class);
+
+        Map<String, String> origins = new HashMap<>();
+        Map<String, Map<String, Schema>> referenced = analyzer.analyzeReferencedClasses(List.of(OHolderS.class), origins);
+
+        assertEquals(Map.of("OItemS", Map.of("nmeVal", Schema.STRING)), referenced);
+        assertEquals(Map.of("OItemS", OItemS.class.getName()), origins);
+    }
+
+    @Test
+    void inlinesEnumsAndInterfacesAndFollowsArrays() {
+        ObjectAnalyzer analyzer = new ObjectAnalyzer(filter());
+        Map<String, Schema> definition = analyzer.analyzeClass(OTypedS.class);
+
+        Schema status = Schema.enumOf(List.of("ACTIVE", "ON_HOLD", "YES"));
+        assertEquals(status, definition.get("sttVal"));
+        assertEquals(Schema.arrayOf(status), definition.get("sttLst"));
+        assertEquals(Schema.OBJECT, definition.get("ptyVal"));
+        assertEquals(Schema.arrayOf(Schema.ref("OEntryS")), definition.get("entArr"));
+        assertEquals(Schema.arrayOf(Schema.INT32), definition.get("numArr"));
+        assertEquals(Schema.BINARY, definition.get("binVal"));
+        assertEquals(Map.of("OEntryS", Map.of("nmeVal", Schema.STRING)),
+                analyzer.analyzeReferencedClasses(List.of(OTypedS.class)));
+    }
+
+    @Test
+    void doesNotReferenceExcludedClasses() {
+        ObjectAnalyzer analyzer = new ObjectAnalyzer(filter());
+
+        assertEquals(Schema.arrayOf(Schema.OBJECT), analyzer.analyzeClass(OTypedS.class).get("atrLst"));
+        assertFalse(analyzer.analyzeReferencedClasses(List.of(OTypedS.class)).containsKey("atrPT"));
+    }
+
+    static ModelFilter filter() {
+        return ModelFilter.compile(List.of("atrPT"), List.of(), List.of(), List.of("serialVersionUID"), List.of());
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Byte offsets of the definitions indexed by {@link PreludeIndex}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:34
+ * @since jdk 1.17
+ */
+class PreludeIndexTest {
+
+    private static final String FIRST = """
+              OFirstS:
+                type: object
+                properties:
+                  nmeVal:
+                    type: string
+            """;
+
+    private static final String SECOND = """
+              'OSecondS':
+                type: object
+                # comment: not a definition
+                properties: {}
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void indexesTheDefinitionsByteRanges() throws IOException {
+        PreludeIndex index = PreludeIndex.build(Files.writeString(dir.resolve("prelude.txt"), FIRST + SECOND));
+
+        int end = FIRST.length() + SECOND.length();
+        assertEquals(List.of("OFirstS", "OSecondS"), List.copyOf(index.names()));
+        assertArrayEquals(new long[]{0, FIRST.length()}, index.definitions().get("OFirstS"));
+        assertArrayEquals(new long[]{FIRST.length(), end}, index.definitions().get("OSecondS"));
+        assertTrue(index.endsWithNewline());
+    }
+
+    @Test
+    void skipsTheByteOrderMark() throws IOException {
+        Path prelude = dir.resolve("prelude.txt");
+        Files.write(prelude, ("\uFEFF" + FIRST).getBytes(StandardCharsets.UTF_8));
+
+        PreludeIndex index = PreludeIndex.build(prelude);
+
+        assertEquals(3, index.contentStart());
+        assertArrayEquals(new long[]{3, 3 + FIRST.length()}, index.definitions().get("OFirstS"));
+        assertEquals(FIRST, index.content(Set.of()));
+    }
+
+    @Test
+    void leavesOutTheSkippedDefinitions() throws IOException {
+        PreludeIndex index = PreludeIndex.build(Files.writeString(dir.resolve("prelude.txt"), FIRST + SECOND));
+
+        assertEquals(1, index.ranges(Set.of("OFirstS")).size());
+        assertArrayEquals(new long[]{FIRST.length(), FIRST.length() + SECOND.length()},
+                index.ranges(Set.of("OFirstS")).get(0));
+        assertEquals(FIRST, index.content(Set.of("OSecondS")));
+    }
+
+    @Test
+    void detectsAChangedFile() throws IOException {
+        Path prelude = Files.writeString(dir.resolve("prelude.txt"), FIRST);
+        PreludeIndex index = PreludeIndex.build(prelude);
+        assertTrue(index.isCurrent());
+
+        Files.writeString(prelude, FIRST + SECOND);
+
+        assertFalse(index.isCurrent());
+    }
+
+}
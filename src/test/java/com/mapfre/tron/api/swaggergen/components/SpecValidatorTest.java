@@ -0,0 +1,147 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Problems reported by the streaming {@link SpecValidator}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:34
+ * @since jdk 1.17
+ */
+class SpecValidatorTest {
+
+    private static final String HEADER = """
+            swagger: '2.0'
+            info:
+              description: Generated models
+              version: '1.0'
+              title: Models
+            paths: {}
+            definitions:
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void acceptsAValidDocument() throws IOException {
+        Path document = this.write("swagger.yaml", HEADER + """
+                  OPlyS:
+                    type: object
+                    properties:
+                      nmeVal:
+                        type: string
+                        description: |
+                          name: not a key
+                      rskLst:
+                        type: array
+                        items:
+                          $ref: '#/definitions/ORskS'
+                  ORskS:
+                    type: object
+                    properties: {}
+                """);
+
+        SpecValidator.Report report = SpecValidator.validate(List.of(document));
+
+        assertTrue(report.isValid(), report.summary());
+        assertEquals(2, report.definitions());
+        assertEquals(1, report.references());
+    }
+
+    @Test
+    void reportsDuplicateDefinitionsAndKeys() throws IOException {
+        Path document = this.write("swagger.yaml", HEADER + """
+                  OPlyS:
+                    type: object
+                    properties:
+                      nmeVal:
+                        type: string
+                        type: string
+                  OPlyS:
+                    type: object
+                """);
+
+        List<String> problems = SpecValidator.validate(List.of(document)).problems();
+
+        assertEquals(2, problems.size(), problems.toString());
+        assertTrue(problems.get(0).endsWith(":13 duplicate key type in nmeVal"), problems.get(0));
+        assertTrue(problems.get(1).endsWith(":14 duplicate key OPlyS in definitions"), problems.get(1));
+    }
+
+    @Test
+    void reportsPropertiesWithoutType() throws IOException {
+        Path document = this.write("swagger.yaml", HEADER + """
+                  OPlyS:
+                    type: object
+                    properties:
+                      nmeVal:
+                      cdeVal:
+                        description: Code
+                """);
+
+        List<String> problems = SpecValidator.validate(List.of(document)).problems();
+
+        assertEquals(2, problems.size(), problems.toString());
+        assertTrue(problems.get(0).endsWith(" property nmeVal of OPlyS has no type"), problems.get(0));
+        assertTrue(problems.get(1).endsWith(" property cdeVal of OPlyS has no type"), problems.get(1));
+    }
+
+    @Test
+    void resolvesReferencesBetweenDocuments() throws IOException {
+        Path root = this.write("swagger.yaml", HEADER + """
+                  OPlyS:
+                    $ref: 'definitions/com.mapfre.nwt.yaml#/definitions/OPlyS'
+                  ORskS:
+                    $ref: 'definitions/com.mapfre.nwt.yaml#/definitions/ORskS'
+                """);
+        Files.createDirectories(dir.resolve("definitions"));
+        Path shard = this.write("definitions/com.mapfre.nwt.yaml", """
+                definitions:
+                  OPlyS:
+                    type: object
+                    properties:
+                      cvrVal:
+                        $ref: '../swagger.yaml#/definitions/OCvrS'
+                """);
+
+        List<String> problems = SpecValidator.validate(List.of(root, shard)).problems();
+
+        assertEquals(2, problems.size(), problems.toString());
+        assertTrue(problems.get(0).endsWith(" broken reference definitions/com.mapfre.nwt.yaml#/definitions/ORskS"),
+                problems.get(0));
+        assertTrue(problems.get(1).endsWith(" broken reference ../swagger.yaml#/definitions/OCvrS"), problems.get(1));
+    }
+
+    @Test
+    void validatesTemporaryFilesAsTheirPublishedPaths() throws IOException {
+        Path temp = this.write("swagger.yaml.tmp", HEADER + """
+                  OPlyS:
+                    type: object
+                    properties:
+                      rskVal:
+                        $ref: '#/definitions/ORskS'
+                """);
+        Path published = dir.resolve("swagger.yaml");
+
+        List<String> problems = SpecValidator.validate(Map.of(published, temp)).problems();
+
+        assertEquals(List.of("swagger.yaml:12 broken reference #/definitions/ORskS"), problems);
+    }
+
+    private Path write(final String name, final String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content);
+    }
+
+}
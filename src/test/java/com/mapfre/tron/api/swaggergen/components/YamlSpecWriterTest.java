@@ -0,0 +1,104 @@
+package com.mapfre.tron.api.swaggergen.components;
+
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Definitions and scalars rendered by the {@link YamlSpecWriter}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:37
+ * @since jdk 1.17
+ */
+class YamlSpecWriterTest {
+
+    @Test
+    void rendersTheProperties() {
+        Map<String, Schema> properties = new LinkedHashMap<>();
+        properties.put("nmeVal", Schema.STRING);
+        properties.put("itmVal", Schema.ref("OItemS"));
+
+        assertEquals("""
+                  OOwnerS:
+                    type: object
+                    properties:
+                      nmeVal:
+                        type: string
+                      itmVal:
+                        $ref: '#/definitions/OItemS'
+                """, YamlSpecWriter.renderDefinition("OOwnerS", properties));
+    }
+
+    @Test
+    void rendersAnEmptyMappingForADefinitionWithoutProperties() {
+        assertEquals("""
+                  OEmptyS:
+                    type: object
+                    properties: {}
+                """, YamlSpecWriter.renderDefinition("OEmptyS", Map.of()));
+    }
+
+    @Test
+    void listsTheValuesOfAnEnum() {
+        String rendered = YamlSpecWriter.renderDefinition("OStatusS",
+                Map.of("sttVal", Schema.enumOf(List.of("ACTIVE", "YES"))));
+
+        assertEquals("""
+                  OStatusS:
+                    type: object
+                    properties:
+                      sttVal:
+                        type: string
+                        enum:
+                          - ACTIVE
+                          - 'YES'
+                """, rendered);
+        Map<String, Map<String, Map<String, Map<String, Object>>>> read = new Yaml().load(rendered);
+        assertEquals(List.of("ACTIVE", "YES"), read.get("OStatusS").get("properties").get("sttVal").get("enum"));
+    }
+
+    @Test
+    void leavesSafeScalarsPlain() {
+        assertEquals("Policy number", YamlSpecWriter.scalar("Policy number"));
+        assertEquals("it's the code", YamlSpecWriter.scalar("it's the code"));
+        assertEquals("ratio 1:2", YamlSpecWriter.scalar("ratio 1:2"));
+    }
+
+    @Test
+    void quotesScalarsReadAsOtherTypes() {
+        assertEquals("'yes'", YamlSpecWriter.scalar("yes"));
+        assertEquals("'Off'", YamlSpecWriter.scalar("Off"));
+        assertEquals("'null'", YamlSpecWriter.scalar("null"));
+        assertEquals("'1_000'", YamlSpecWriter.scalar("1_000"));
+        assertEquals("'2024-10-23'", YamlSpecWriter.scalar("2024-10-23"));
+        assertEquals("''", YamlSpecWriter.scalar(""));
+    }
+
+    @Test
+    void quotesScalarsWithIndicators() {
+        assertEquals("'key: value'", YamlSpecWriter.scalar("key: value"));
+        assertEquals("'# note'", YamlSpecWriter.scalar("# note"));
+        assertEquals("'code #1'", YamlSpecWriter.scalar("code #1"));
+        assertEquals("'trailing '", YamlSpecWriter.scalar("trailing "));
+        assertEquals("'''quoted'''", YamlSpecWriter.scalar("'quoted'"));
+        assertEquals("\"line\\nbreak \\\"x\\\"\"", YamlSpecWriter.scalar("line\nbreak \"x\""));
+    }
+
+    @Test
+    void scalarsAreReadBackAsTheSameString() {
+        Yaml yaml = new Yaml();
+        for (String value : List.of("Policy number", "yes", "1_000", "2024-10-23", "key: value", "# note", "a\tb",
+                "'quoted'", "-1", "~", "[list]", "{map}", "*alias", "caf\u00e9 \u2615")) {
+            Map<String, Object> read = yaml.load("value: " + YamlSpecWriter.scalar(value));
+            assertEquals(value, read.get("value"), value);
+        }
+    }
+
+}
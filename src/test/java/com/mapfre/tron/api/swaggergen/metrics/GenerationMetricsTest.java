@@ -0,0 +1,46 @@
+package com.mapfre.tron.api.swaggergen.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * JSON summary of the {@link GenerationMetrics}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:46
+ * @since jdk 1.17
+ */
+class GenerationMetricsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void escapesTheNamesAndTagsOfTheSummary() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.counter("swaggergen.\"quoted\"", "cache", "C:\\descriptions\n\"es_ES\"").increment(3);
+        GenerationMetrics metrics = new GenerationMetrics(registry);
+
+        Path summary = dir.resolve("summary.json");
+        metrics.writeSummary(summary, 42);
+
+        // JSON is read back as the YAML flow it is a subset of
+        Map<?, ?> document = new Yaml().load(Files.readString(summary));
+        Map<?, ?> meter = (Map<?, ?>) ((List<?>) document.get("meters")).get(0);
+        assertEquals("swaggergen.\"quoted\"", meter.get("name"));
+        assertEquals(Map.of("cache", "C:\\descriptions\n\"es_ES\""), meter.get("tags"));
+        assertEquals(3.0, meter.get("count"));
+        assertEquals(42, document.get("durationMs"));
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.mapfre.tron.api.swaggergen.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Persistence and source check of the {@link DescriptionSnapshotStore}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:46
+ * @since jdk 1.17
+ */
+class DescriptionSnapshotStoreTest {
+
+    private static final String URL = "jdbc:oracle:thin:@//localhost:1521/nwt";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reusesTheSavedDescriptions() throws IOException {
+        DescriptionSnapshotStore store = this.store(URL, List.of("en_US", "es_ES"));
+        store.record(List.of("nmeval", "cdeval"), Map.of("nmeval", new String[]{"Name", "Nombre"}));
+        store.save();
+
+        Map<String, String[]> found = new HashMap<>();
+        List<String> misses = this.store(URL, List.of("en_US", "es_ES"))
+                .lookup(List.of("nmeval", "cdeval", "amnval"), found, false);
+
+        assertEquals(List.of("amnval"), misses);
+        assertEquals(1, found.size());
+        assertArrayEquals(new String[]{"Name", "Nombre"}, found.get("nmeval"));
+    }
+
+    @Test
+    void savesAgainOverTheMappedSnapshot() throws IOException {
+        DescriptionSnapshotStore store = this.store(URL, List.of("en_US"));
+        store.record(List.of("nmeval"), Map.of("nmeval", new String[]{"Name"}));
+        store.save();
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(store, "pending")).isEmpty());
+
+        // The first snapshot is mapped by the lookup and replaced by the second save
+        Map<String, String[]> found = new HashMap<>();
+        assertEquals(List.of("cdeval"), store.lookup(List.of("nmeval", "cdeval"), found, false));
+        store.record(List.of("cdeval"), Map.of("cdeval", new String[]{"Code"}));
+        store.save();
+
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(store, "pending")).isEmpty());
+        assertEquals(List.of(), store.lookup(List.of("nmeval", "cdeval"), found, false));
+        assertArrayEquals(new String[]{"Code"}, found.get("cdeval"));
+        assertEquals(List.of(), this.store(URL, List.of("en_US")).lookup(List.of("nmeval", "cdeval"), found, false));
+    }
+
+    @Test
+    void ignoresASnapshotOfAnotherSource() throws IOException {
+        DescriptionSnapshotStore store = this.store(URL, List.of("en_US"));
+        store.record(List.of("nmeval"), Map.of("nmeval", new String[]{"Name"}));
+        store.save();
+
+        Map<String, String[]> found = new HashMap<>();
+        List<String> otherDatabase = this.store("jdbc:oracle:thin:@//localhost:1521/other", List.of("en_US"))
+                .lookup(List.of("nmeval"), found, false);
+        List<String> otherLocales = this.store(URL, List.of("es_ES"))
+                .lookup(List.of("nmeval"), found, false);
+
+        assertEquals(List.of("nmeval"), otherDatabase);
+        assertEquals(List.of("nmeval"), otherLocales);
+        assertTrue(found.isEmpty());
+    }
+
+    @Test
+    void queriesTheStaleEntriesUnlessOffline() throws IOException {
+        DescriptionSnapshotStore store = this.store(URL, List.of("en_US"));
+        store.record(List.of("nmeval"), Map.of("nmeval", new String[]{"Name"}));
+        store.save();
+
+        DescriptionSnapshotStore expired = this.store(URL, List.of("en_US"));
+        ReflectionTestUtils.setField(expired, "maxAge", Duration.ofMillis(-1));
+
+        assertEquals(List.of("nmeval"), expired.lookup(List.of("nmeval"), new HashMap<>(), false));
+        assertEquals(List.of(), expired.lookup(List.of("nmeval"), new HashMap<>(), true));
+    }
+
+    @Test
+    void doesNothingWhenDisabled() throws IOException {
+        DescriptionSnapshotStore store = new DescriptionSnapshotStore();
+        store.record(List.of("nmeval"), Map.of("nmeval", new String[]{"Name"}));
+        store.save();
+
+        assertFalse(store.isEnabled());
+        assertEquals(List.of("nmeval"), store.lookup(List.of("nmeval"), new HashMap<>(), true));
+    }
+
+    private DescriptionSnapshotStore store(final String url, final List<String> locales) {
+        DescriptionSnapshotStore store = new DescriptionSnapshotStore();
+        ReflectionTestUtils.setField(store, "snapshotPath", dir.resolve("descriptions.snapshot").toString());
+        ReflectionTestUtils.setField(store, "maxAge", Duration.ofDays(7));
+        ReflectionTestUtils.setField(store, "dataSourceUrl", url);
+        ReflectionTestUtils.setField(store, "dataSourceUsername", "NWT_DVL");
+        ReflectionTestUtils.setField(store, "locales", locales);
+        return store;
+    }
+
+}
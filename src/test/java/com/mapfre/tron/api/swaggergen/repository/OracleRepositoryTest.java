@@ -0,0 +1,89 @@
+package com.mapfre.tron.api.swaggergen.repository;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mapfre.tron.api.swaggergen.benchmark.InMemoryJdbcTemplate;
+import com.mapfre.tron.api.swaggergen.metrics.GenerationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Chunked description queries of the {@link OracleRepository}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:34
+ * @since jdk 1.17
+ */
+class OracleRepositoryTest {
+
+    /**
+     * Stand-in recording the number of bind variables of every query.
+     */
+    private static final class RecordingJdbcTemplate extends InMemoryJdbcTemplate {
+
+        private final List<Integer> bindCounts = new ArrayList<>();
+
+        RecordingJdbcTemplate() {
+            super(name -> name.startsWith("NO_") ? null : "Description of " + name.toLowerCase());
+        }
+
+        @Override
+        public <T> List<T> query(final String sql, final RowMapper<T> rowMapper, final Object... args) {
+            bindCounts.add(args.length);
+            return super.query(sql, rowMapper, args);
+        }
+    }
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+
+    private final OracleRepository repository = repository(jdbcTemplate);
+
+    @Test
+    void queriesTheNamesInChunksOfAThousand() {
+        List<String> names = IntStream.range(0, 2500).mapToObj(i -> "nmeVal" + i).toList();
+
+        Map<String, String> descriptions = repository.findDescriptionsByProperties(names);
+
+        // A thousand property names and the locale per query
+        assertEquals(List.of(1001, 1001, 501), jdbcTemplate.bindCounts);
+        assertEquals(2500, descriptions.size());
+        assertEquals("Description of nme_val2499", descriptions.get("nmeVal2499"));
+    }
+
+    @Test
+    void resolvesEachIdentifierOnce() {
+        Map<String, String> descriptions = repository.findDescriptionsByProperties(List.of("nmeVal", "NmeVal", "cdeVal"));
+
+        assertEquals(List.of(3), jdbcTemplate.bindCounts);
+        assertEquals("Description of nme_val", descriptions.get("nmeVal"));
+        assertEquals("Description of nme_val", descriptions.get("NmeVal"));
+    }
+
+    @Test
+    void cachesTheMissingDescriptions() {
+        repository.findDescriptionsByProperties(List.of("noVal", "cdeVal"));
+
+        Map<String, String> descriptions = repository.findDescriptionsByProperties(List.of("noVal", "cdeVal"));
+
+        assertEquals(1, jdbcTemplate.getQueries());
+        assertNull(descriptions.get("noVal"));
+        assertEquals("Description of cde_val", descriptions.get("cdeVal"));
+    }
+
+    private static OracleRepository repository(final InMemoryJdbcTemplate jdbcTemplate) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(DescriptionCache.NAME);
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(10_000));
+        return new OracleRepository(jdbcTemplate, new DescriptionSnapshotStore(), new DescriptionCache(cacheManager),
+                new GenerationMetrics(new SimpleMeterRegistry()));
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.mapfre.tron.api.swaggergen.scale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generator of synthetic NWT-like model corpora, written as Java sources and compiled with the
+ * system Java compiler.
+ * <p>
+ * The models look like the NWT objects: {@code O...S} class names spread over packages, a pool of
+ * property names shared by every model (so descriptions are looked up once for many models),
+ * scalar, date and decimal fields, references forming chains that close into cycles, lists of
+ * models, self references and the excluded {@code serialVersionUID} and {@code atrPT} fields.
+ * The corpus is deterministic for a given size.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 21:03
+ * @since jdk 1.17
+ */
+final class ScaleCorpus {
+
+    static final String PACKAGE = "com.mapfre.nwt.scale";
+
+    /**
+     * Models per package.
+     */
+    private static final int PACKAGE_SIZE = 500;
+
+    /**
+     * Length of the reference chains, each one closed into a cycle by its last model.
+     */
+    private static final int CHAIN_LENGTH = 10;
+
+    /**
+     * Size of the pool of property names shared by the models.
+     */
+    private static final int SHARED_PROPERTIES = 400;
+
+    /**
+     * Source files compiled per compiler task, to bound the memory of the compiler.
+     */
+    private static final int COMPILE_BATCH = 2_000;
+
+    private ScaleCorpus() {
+    }
+
+    /**
+     * Generated corpus: its source tree and compiled classes.
+     *
+     * @param sourceDir  the root of the source tree
+     * @param classesDir the class output directory
+     * @param modelCount the number of model classes
+     */
+    record Corpus(Path sourceDir, Path classesDir, int modelCount) {
+    }
+
+    static String modelName(final int model) {
+        StringBuilder name = new StringBuilder("O");
+        int code = model;
+        for (int i = 0; i < 6; i++) {
+            char letter = (char) ('a' + code % 26);
+            name.append(i % 3 == 0 ? Character.toUpperCase(letter) : letter);
+            code /= 26;
+        }
+        return name.append('S').toString();
+    }
+
+    static String propertyName(final int property) {
+        return "prp" + Character.toUpperCase((char) ('a' + property % 26)) + (property / 26) + "Val";
+    }
+
+    /**
+     * Writes and compiles a corpus of the given size.
+     *
+     * @param root       the directory holding the corpus
+     * @param modelCount the number of model classes
+     * @return the generated corpus
+     * @throws IOException if a file cannot be written or the sources do not compile
+     */
+    static Corpus generate(final Path root, final int modelCount) throws IOException {
+        Path sourceDir = Files.createDirectories(root.resolve("src"));
+        Path classesDir = Files.createDirectories(root.resolve("classes"));
+        List<Path> sources = new ArrayList<>(modelCount);
+        for (int model = 0; model < modelCount; model++) {
+            sources.add(writeSource(sourceDir, model, modelCount));
+        }
+        compile(sources, sourceDir, classesDir);
+        return new Corpus(sourceDir, classesDir, modelCount);
+    }
+
+    private static Path writeSource(final Path sourceDir, final int model, final int modelCount) throws IOException {
+        String packageName = PACKAGE + ".p" + (model / PACKAGE_SIZE);
+        Path dir = Files.createDirectories(sourceDir.resolve(packageName.replace('.', '/')));
+        Random random = new Random(model);
+
+        StringBuilder source = new StringBuilder()
+                .append("/*\n * Copyright MAPFRE. All rights reserved.\n */\n")
+                .append("package ").append(packageName).append(";\n\n")
+                .append("public class ").append(modelName(model)).append(" implements java.io.Serializable {\n\n")
+                .append("    private static final long serialVersionUID = 1L;\n")
+                .append("    private String atrPT;\n");
+
+        // Next model of the chain, the last one closing the cycle back to the first
+        int chainStart = model - model % CHAIN_LENGTH;
+        int next = model + 1 < Math.min(chainStart + CHAIN_LENGTH, modelCount) ? model + 1 : chainStart;
+        source.append("    private ").append(qualifiedName(next)).append(" nxtVal;\n");
+
+        // Scalar fields named from the shared pool, some models referencing others or themselves
+        int fields = 8 + random.nextInt(24);
+        int first = random.nextInt(SHARED_PROPERTIES);
+        for (int field = 0; field < fields; field++) {
+            String type = switch (random.nextInt(12)) {
+                case 0, 1, 2 -> "String";
+                case 3, 4 -> "java.math.BigDecimal";
+                case 5 -> "int";
+                case 6 -> "Long";
+                case 7 -> "java.util.Date";
+                case 8 -> "boolean";
+                case 9 -> "java.util.List<" + qualifiedName(random.nextInt(modelCount)) + ">";
+                case 10 -> "java.util.Map<String, String>";
+                default -> random.nextInt(4) == 0 ? modelName(model) : qualifiedName(random.nextInt(modelCount));
+            };
+            source.append("    private ").append(type).append(' ')
+                    .append(propertyName((first + field) % SHARED_PROPERTIES)).append(";\n");
+        }
+        source.append("}\n");
+
+        Path file = dir.resolve(modelName(model) + ".java");
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static String qualifiedName(final int model) {
+        return PACKAGE + ".p" + (model / PACKAGE_SIZE) + "." + modelName(model);
+    }
+
+    /**
+     * Compiles the sources in batches; the classes referenced across batches are found through the
+     * source path, compiled when first needed, and reused from the class output by the next batches.
+     */
+    private static void compile(final List<Path> sources, final Path sourceDir, final Path classesDir)
+            throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system Java compiler, the scale tests need a JDK");
+        }
+        List<String> options = List.of("-d", classesDir.toString(), "-classpath", classesDir.toString(),
+                "-sourcepath", sourceDir.toString(), "-implicit:class", "-proc:none", "-g:none", "-nowarn",
+                "-encoding", "UTF-8");
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            for (int start = 0; start < sources.size(); start += COMPILE_BATCH) {
+                List<Path> batch = sources.subList(start, Math.min(start + COMPILE_BATCH, sources.size()));
+                DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+                boolean compiled = compiler.getTask(null, fileManager, diagnostics, options, null,
+                        fileManager.getJavaFileObjectsFromPaths(batch)).call();
+                if (!compiled) {
+                    Diagnostic<? extends JavaFileObject> error = diagnostics.getDiagnostics().get(0);
+                    throw new IOException("Corpus does not compile: " + error);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.mapfre.tron.api.swaggergen.scale;
+
+import com.mapfre.tron.api.swaggergen.SwaggergenApplication;
+import com.mapfre.tron.api.swaggergen.benchmark.InMemoryJdbcTemplate;
+import com.mapfre.tron.api.swaggergen.components.SpecValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end scale test: runs the whole {@code AppRunner} pipeline (scan, bytecode analysis,
+ * description lookup, write and validation) over synthetic corpora of increasing size, with an
+ * in-memory description store standing in for Oracle.
+ * <p>
+ * For each size it records the wall time, the peak heap and the GC count and time in
+ * {@code target/scale/scale-results.csv}, and fails when the time per class exceeds its budget or
+ * when time or peak heap grow faster than the corpus size allows. Sizes and limits are system
+ * properties: {@code scale.sizes}, {@code scale.max-ms-per-class}, {@code scale.max-growth}.
+ * Tagged {@code scale}, so it only runs in the {@code scale} profile: {@code mvn -Pscale test}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 21:03
+ * @since jdk 1.17
+ */
+@Tag("scale")
+@Slf4j
+class ScaleTest {
+
+    private static final int[] SIZES = Arrays.stream(System.getProperty("scale.sizes", "1000,5000").split(","))
+            .map(String::trim).mapToInt(Integer::parseInt).sorted().toArray();
+
+    /**
+     * Budget of wall time per model class, in milliseconds.
+     */
+    private static final double MAX_MS_PER_CLASS = Double.parseDouble(System.getProperty("scale.max-ms-per-class", "20"));
+
+    /**
+     * Allowed growth of time and peak heap between two sizes, relative to the growth of the size.
+     */
+    private static final double MAX_GROWTH = Double.parseDouble(System.getProperty("scale.max-growth", "1.5"));
+
+    private static Path workDir;
+
+    /**
+     * Measurements of a run.
+     */
+    private record Result(int size, long wallMillis, long peakHeapBytes, long gcCount, long gcMillis, int definitions) {
+    }
+
+    /**
+     * Description store standing in for Oracle; the data source is never connected.
+     */
+    static class InMemoryDescriptions {
+
+        @Bean
+        @Primary
+        JdbcTemplate inMemoryJdbcTemplate() {
+            InMemoryJdbcTemplate jdbcTemplate = new InMemoryJdbcTemplate(
+                    name -> (name.hashCode() & 3) == 0 ? null : "Description of " + name.toLowerCase());
+            jdbcTemplate.setDataSource(new SimpleDriverDataSource());
+            return jdbcTemplate;
+        }
+    }
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        workDir = Files.createTempDirectory("swaggergen-scale");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        if (workDir != null) {
+            try (Stream<Path> paths = Files.walk(workDir)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    @Test
+    void pipelineScalesWithTheNumberOfClasses() throws IOException {
+        // Warm up the JVM on a small corpus, so the first size does not pay for it
+        run(Math.max(100, SIZES[0] / 10));
+
+        List<Result> results = new ArrayList<>();
+        for (int size : SIZES) {
+            Result result = run(size);
+            results.add(result);
+            log.warn("Scale {} classes: {} ms, peak heap {} MB, {} GCs ({} ms)", result.size(), result.wallMillis(),
+                    result.peakHeapBytes() >> 20, result.gcCount(), result.gcMillis());
+        }
+        writeResults(results);
+
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            assertEquals(result.size(), result.definitions(), "Definitions written for " + result.size() + " classes");
+            double msPerClass = (double) result.wallMillis() / result.size();
+            assertTrue(msPerClass <= MAX_MS_PER_CLASS, String.format("%d classes: %.2f ms per class, budget %.2f",
+                    result.size(), msPerClass, MAX_MS_PER_CLASS));
+            if (i > 0) {
+                Result previous = results.get(i - 1);
+                double allowed = (double) result.size() / previous.size() * MAX_GROWTH;
+                double timeGrowth = (double) result.wallMillis() / Math.max(1, previous.wallMillis());
+                double heapGrowth = (double) result.peakHeapBytes() / Math.max(1, previous.peakHeapBytes());
+                assertTrue(timeGrowth <= allowed, String.format("%d -> %d classes: time grew x%.2f, allowed x%.2f",
+                        previous.size(), result.size(), timeGrowth, allowed));
+                assertTrue(heapGrowth <= allowed, String.format("%d -> %d classes: peak heap grew x%.2f, allowed x%.2f",
+                        previous.size(), result.size(), heapGrowth, allowed));
+            }
+        }
+    }
+
+    /**
+     * Generates a corpus and runs the application over it, measuring the run only.
+     */
+    private static Result run(final int size) throws IOException {
+        Path root = Files.createDirectories(workDir.resolve(String.valueOf(size)));
+        ScaleCorpus.Corpus corpus = ScaleCorpus.generate(root, size);
+        Path output = root.resolve("swagger.yaml");
+        Path prelude = Files.writeString(root.resolve("source_definitions.txt"), "");
+
+        String[] args = {
+                "--app.sources.dir=" + corpus.sourceDir(),
+                "--app.analysis.mode=bytecode",
+                "--app.analysis.classes-dirs=" + corpus.classesDir(),
+                "--app.output.path=" + output,
+                "--app.output.prelude=" + prelude,
+                "--app.descriptions.snapshot.path=",
+                "--app.metrics.summary-path=" + root.resolve("swaggergen-metrics.json"),
+                "--app.incremental.enabled=false",
+                "--app.mode=batch",
+                "--app.serve.enabled=false",
+                "--logging.level.root=WARN"
+        };
+
+        // Start from a collected heap, so the peak belongs to this run
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP).toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SwaggergenApplication.class,
+                InMemoryDescriptions.class).web(WebApplicationType.NONE).logStartupInfo(false).run(args)) {
+            // The pipeline runs while the context starts
+        }
+        long wallMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        int definitions = SpecValidator.validate(List.of(output)).definitions();
+        return new Result(size, wallMillis, peakHeap, gcCount() - gcCount, gcMillis() - gcMillis, definitions);
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(count -> count > 0).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(time -> time > 0).sum();
+    }
+
+    /**
+     * Writes the measurements, one line per size, to track them across builds.
+     */
+    private static void writeResults(final List<Result> results) throws IOException {
+        StringBuilder csv = new StringBuilder("classes,wall_ms,peak_heap_mb,gc_count,gc_ms\n");
+        for (Result result : results) {
+            csv.append(result.size()).append(',').append(result.wallMillis()).append(',')
+                    .append(result.peakHeapBytes() >> 20).append(',').append(result.gcCount()).append(',')
+                    .append(result.gcMillis()).append('\n');
+        }
+        Path report = Paths.get("target", "scale", "scale-results.csv");
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, csv);
+    }
+
+}
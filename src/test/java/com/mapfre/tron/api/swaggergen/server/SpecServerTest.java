@@ -0,0 +1,160 @@
+package com.mapfre.tron.api.swaggergen.server;
+
+import com.mapfre.tron.api.swaggergen.model.Schema;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Entity tags, conditional requests and compression of the {@link SpecServer}.
+ *
+ * @author architecture - rperezv
+ * @version 16/10/2026 - 22:47
+ * @since jdk 1.17
+ */
+class SpecServerTest {
+
+    private static final Map<String, Map<String, Schema>> DEFINITIONS = Map.of("OPlyS", Map.of("nmeVal", Schema.STRING));
+
+    @TempDir
+    Path dir;
+
+    private final SpecServer specServer = new SpecServer();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private Path document;
+
+    private URI base;
+
+    @BeforeEach
+    void start() throws IOException {
+        ReflectionTestUtils.setField(specServer, "port", 0);
+        ReflectionTestUtils.setField(specServer, "threads", 2);
+        specServer.start();
+        HttpServer server = (HttpServer) ReflectionTestUtils.getField(specServer, "server");
+        base = URI.create("http://localhost:" + server.getAddress().getPort());
+        document = Files.writeString(dir.resolve("swagger.yaml"), "swagger: '2.0'\ndefinitions:\n  OPlyS:\n    type: object\n");
+    }
+
+    @AfterEach
+    void stop() {
+        specServer.stop();
+    }
+
+    @Test
+    void isUnavailableUntilPublished() throws Exception {
+        assertEquals(503, this.get("/swagger.yaml", Map.of()).statusCode());
+    }
+
+    @Test
+    void servesAGenerationPublishedBeforeStarting() throws Exception {
+        SpecServer published = new SpecServer();
+        ReflectionTestUtils.setField(published, "port", 0);
+        ReflectionTestUtils.setField(published, "threads", 1);
+        published.publish(document, DEFINITIONS);
+        published.start();
+        try {
+            HttpServer server = (HttpServer) ReflectionTestUtils.getField(published, "server");
+            HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + server.getAddress().getPort() + "/swagger.yaml")).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+
+            assertEquals(200, response.statusCode());
+            assertArrayEquals(Files.readAllBytes(document), response.body());
+        } finally {
+            published.stop();
+        }
+    }
+
+    @Test
+    void servesTheDocumentWithAStrongEntityTag() throws Exception {
+        specServer.publish(document, DEFINITIONS);
+
+        HttpResponse<byte[]> response = this.get("/swagger.yaml", Map.of());
+
+        assertEquals(200, response.statusCode());
+        assertArrayEquals(Files.readAllBytes(document), response.body());
+        String etag = response.headers().firstValue("ETag").orElseThrow();
+        assertTrue(etag.matches("\"[0-9a-f]{32}\""), etag);
+        assertEquals("Accept-Encoding", response.headers().firstValue("Vary").orElseThrow());
+    }
+
+    @Test
+    void answersNotModifiedToAMatchingEntityTag() throws Exception {
+        specServer.publish(document, DEFINITIONS);
+        String etag = this.get("/swagger.yaml", Map.of()).headers().firstValue("ETag").orElseThrow();
+
+        assertEquals(304, this.get("/swagger.yaml", Map.of("If-None-Match", etag)).statusCode());
+        assertEquals(304, this.get("/swagger.yaml", Map.of("If-None-Match", "\"other\", W/" + etag)).statusCode());
+        assertEquals(200, this.get("/swagger.yaml", Map.of("If-None-Match", "\"other\"")).statusCode());
+    }
+
+    @Test
+    void servesTheGzippedDocumentWithItsOwnEntityTag() throws Exception {
+        specServer.publish(document, DEFINITIONS);
+        String etag = this.get("/swagger.yaml", Map.of()).headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<byte[]> response = this.get("/swagger.yaml", Map.of("Accept-Encoding", "gzip, deflate"));
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElseThrow());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            assertArrayEquals(Files.readAllBytes(document), in.readAllBytes());
+        }
+        String gzippedEtag = response.headers().firstValue("ETag").orElseThrow();
+        assertNotEquals(etag, gzippedEtag);
+        assertEquals(200, this.get("/swagger.yaml", Map.of("Accept-Encoding", "gzip", "If-None-Match", etag)).statusCode());
+        assertEquals(304, this.get("/swagger.yaml", Map.of("Accept-Encoding", "gzip", "If-None-Match", gzippedEtag))
+                .statusCode());
+    }
+
+    @Test
+    void changesTheEntityTagWithANewGeneration() throws Exception {
+        specServer.publish(document, DEFINITIONS);
+        String etag = this.get("/swagger.yaml", Map.of()).headers().firstValue("ETag").orElseThrow();
+
+        Files.writeString(document, "swagger: '2.0'\ndefinitions: {}\n");
+        specServer.publish(document, Map.of());
+
+        assertEquals(200, this.get("/swagger.yaml", Map.of("If-None-Match", etag)).statusCode());
+    }
+
+    @Test
+    void servesSingleDefinitions() throws Exception {
+        specServer.publish(document, DEFINITIONS);
+
+        HttpResponse<byte[]> response = this.get("/definitions/OPlyS", Map.of());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("  OPlyS:\n    type: object\n    properties:\n      nmeVal:\n        type: string\n",
+                new String(response.body()));
+        assertEquals(404, this.get("/definitions/ORskS", Map.of()).statusCode());
+    }
+
+    private HttpResponse<byte[]> get(final String path, final Map<String, String> headers) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(base.resolve(path)).GET();
+        headers.forEach(request::header);
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+}